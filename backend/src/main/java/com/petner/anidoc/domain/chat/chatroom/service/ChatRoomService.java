@@ -5,9 +5,10 @@ import com.petner.anidoc.domain.chat.chatroom.dto.ChatRoomRequestDto;
 import com.petner.anidoc.domain.chat.chatroom.dto.ChatRoomResponseDto;
 import com.petner.anidoc.domain.chat.chatroom.entity.ChatRoom;
 import com.petner.anidoc.domain.chat.chatroom.repository.ChatRoomRepository;
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
 import com.petner.anidoc.domain.user.user.entity.User;
-import com.petner.anidoc.domain.user.user.entity.UserRole;
 import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import com.petner.anidoc.domain.user.user.service.StaffDirectory;
 import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
 import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class ChatRoomService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final StaffDirectory staffDirectory;
 
     // 채팅방 생성 또는 조회
     @Transactional
@@ -39,10 +41,12 @@ public class ChatRoomService {
         // 이미 존재하는 채팅방인지 확인
         ChatRoom chatRoom = chatRoomRepository.findByReservation(reservation)
                 .orElseGet(() -> {
-                    // 관리자 계정 찾기
-                    User admin = userRepository.findByRole(UserRole.ROLE_ADMIN)
-                            .stream()
-                            .findFirst()
+                    // 관리자 계정 찾기 (담당의 소속 병원 관리자, 없으면 전체 병원 관리자)
+                    Long vetId = reservation.getDoctor() != null
+                            ? staffDirectory.get(reservation.getDoctor().getId()).map(StaffDirectoryEntry::vetId).orElse(null)
+                            : null;
+                    User admin = staffDirectory.findAdmin(vetId)
+                            .map(entry -> userRepository.getReferenceById(entry.id()))
                             .orElseThrow(() -> new IllegalArgumentException("관리자가 존재하지 않습니다."));
 
                     // 새 채팅방 생성
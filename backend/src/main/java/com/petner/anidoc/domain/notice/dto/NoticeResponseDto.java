@@ -15,6 +15,7 @@ public class NoticeResponseDto {
     private String writer;
     private String createdAt;
     private String updatedAt;
+    private Long broadcastId; // 등록/수정 알림(전체 알림) ID - 전송 현황 조회용
 
     public static NoticeResponseDto from(Notice notice){
         return NoticeResponseDto.builder()
@@ -51,14 +51,16 @@ public class NoticeService {
                 .isRead(false)
                 .build();
 
-        //  notifyAll 메서드 사용 (개별 알림 + 전역 이벤트)
-        notificationService.notifyAll(
+        //  notifyAll 메서드 사용 (전체 알림 한 건 저장 + 전역 이벤트)
+        Long broadcastId = notificationService.notifyAll(
                 NotificationType.NOTICE,
                 "공지사항: " + saved.getTitle(),
                 noticeNotificationDto
         );
-        log.info("=== 알림 전송 완료 ===");
-        return NoticeResponseDto.from(saved);
+        log.info("=== 알림 전송 완료 - broadcastId: {} ===", broadcastId);
+        NoticeResponseDto response = NoticeResponseDto.from(saved);
+        response.setBroadcastId(broadcastId);
+        return response;
 
     }
 
@@ -83,13 +85,15 @@ public class NoticeService {
                 .isRead(false)
                 .build();
         // 이벤트명 추가(선택), 프론트에 push
-        notificationService.notifyAll(
+        Long broadcastId = notificationService.notifyAll(
                 NotificationType.NOTICE,
                 "[수정]공지사항: " + dto.getTitle(),
                 dto
         );
 
-        return NoticeResponseDto.from(notice);
+        NoticeResponseDto response = NoticeResponseDto.from(notice);
+        response.setBroadcastId(broadcastId);
+        return response;
     }
 
 
@@ -1,18 +1,40 @@
 package com.petner.anidoc.domain.statistics.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petner.anidoc.domain.statistics.dto.*;
+import com.petner.anidoc.domain.statistics.entity.SketchScope;
+import com.petner.anidoc.domain.statistics.service.DistinctPetSketchService;
+import com.petner.anidoc.domain.statistics.service.SlotHeatmapService;
+import com.petner.anidoc.domain.statistics.service.StatisticsSeriesService;
 import com.petner.anidoc.domain.statistics.service.StatisticsService;
+import com.petner.anidoc.global.rq.CurrentVet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/statistics")
@@ -21,41 +43,134 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final StatisticsSeriesService statisticsSeriesService;
+    private final DistinctPetSketchService distinctPetSketchService;
+    private final SlotHeatmapService slotHeatmapService;
+    private final ObjectMapper objectMapper;
+    private final CurrentVet currentVet;
+
+    // 통계는 병원 단위 - 소속 병원이 있으면 그 병원, 없으면 vetId(생략 시 전체 병원) 기준
 
     //지난 주 방문자 통계
     @Operation(summary = "지난 주 방문자 통계")
     @GetMapping("/weekly")
-    public WeeklyStatisticsDto getLastWeekStatistics(){
-        return statisticsService.getLastWeekWeekStatistics();
+    public WeeklyStatisticsDto getLastWeekStatistics(@RequestParam(required = false) Long vetId){
+        return statisticsService.getLastWeekWeekStatistics(currentVet.scope(vetId));
     }
 
     //지난 달 방문자 통계
     @Operation(summary = "지난 달 방문자 통계")
     @GetMapping("/monthly")
-    public MonthlyStatisticsDto getLastMonthStatistics(){
-        return statisticsService.getLastMonthWeekStatistics();
+    public MonthlyStatisticsDto getLastMonthStatistics(@RequestParam(required = false) Long vetId){
+        return statisticsService.getLastMonthWeekStatistics(currentVet.scope(vetId));
     }
 
     //지난 주 - 이번 주 방문자 비교
     @Operation(summary = "주간 방문자 비교")
     @GetMapping("/weekly-comparison")
-    public WeeklyComparisonDto getWeeklyComparison(){
-        return statisticsService.getWeeklyComparison();
+    public WeeklyComparisonDto getWeeklyComparison(@RequestParam(required = false) Long vetId){
+        return statisticsService.getWeeklyComparison(currentVet.scope(vetId));
     }
 
     //지난 달 - 이번 달 방문자 비교
     @Operation(summary = "월간 방문자 비교")
     @GetMapping("/monthly-comparison")
-    public MonthlyComparisonDto getMonthlyComparison(){
-        return statisticsService.getMonthlyComparison();
+    public MonthlyComparisonDto getMonthlyComparison(@RequestParam(required = false) Long vetId){
+        return statisticsService.getMonthlyComparison(currentVet.scope(vetId));
     }
 
 
     //지난 달 동물 별 비율
     @Operation(summary = "지난 달 동물별 진료 비율 통계")
     @GetMapping("/monthly-animal-rate")
-    public AnimalTypeDto getLastMonthAnimalRate(){
-        return  statisticsService.getLastMonthAnimalTypeRate();
+    public AnimalTypeDto getLastMonthAnimalRate(@RequestParam(required = false) Long vetId){
+        return  statisticsService.getLastMonthAnimalTypeRate(currentVet.scope(vetId));
+    }
+
+    //기준별(종/품종/담당의/예약유형/검사유형) 진료 건수
+    @Operation(summary = "기준별 진료 건수 통계", description = "dimension: species, breed, doctor, reservation_type, checkup_type / endDate 미포함")
+    @GetMapping("/breakdown")
+    public BreakdownDto getBreakdown(
+            @RequestParam String dimension,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) Long vetId){
+        return statisticsService.getBreakdown(BreakdownDimension.from(dimension), startDate, endDate, currentVet.scope(vetId));
+    }
+
+    //임의 기간 시계열 통계 - Accept: application/x-ndjson 이면 구간별로 한 줄씩 스트리밍
+    @Operation(summary = "기간별 시계열 통계",
+            description = "bucket: day, week, month / metric: visits, reservations, vaccinations / to 미포함")
+    @GetMapping("/series")
+    public ResponseEntity<?> getSeries(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestParam(defaultValue = "visits") String metric,
+            @RequestParam(required = false) Long vetId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        SeriesBucket seriesBucket = SeriesBucket.from(bucket);
+        SeriesMetric seriesMetric = SeriesMetric.from(metric);
+        // 스트리밍 응답은 다른 스레드에서 쓰이므로 요청 범위 값은 미리 꺼내 둠
+        Long scopedVetId = currentVet.scope(vetId);
+
+        if (accept == null || !accept.contains(MediaType.APPLICATION_NDJSON_VALUE)) {
+            return ResponseEntity.ok(statisticsSeriesService.getSeries(seriesMetric, seriesBucket, from, to, scopedVetId));
+        }
+
+        statisticsSeriesService.validateRange(from, to);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            statisticsSeriesService.streamSeries(seriesMetric, seriesBucket, from, to, scopedVetId, point -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(point));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    //진료한 고유 반려동물 수 - 기본은 스케치 추정치, exact=true 면 정확한 값
+    @Operation(summary = "진료한 고유 반려동물 수",
+            description = "scope: doctor, vet / from, to: yyyy-MM (to 포함, 생략 시 전체 기간)")
+    @GetMapping("/unique-pets")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_STAFF')")
+    public UniquePetsDto getUniquePets(
+            @RequestParam String scope,
+            @RequestParam Long id,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(defaultValue = "false") boolean exact){
+        SketchScope sketchScope = SketchScope.from(scope);
+        Long scopeId = sketchScope == SketchScope.VET ? currentVet.scope(id) : currentVet.scopeDoctor(id);
+        return exact
+                ? distinctPetSketchService.countExact(sketchScope, scopeId, from, to)
+                : distinctPetSketchService.estimate(sketchScope, scopeId, from, to);
+    }
+
+    //고유 반려동물 스케치 재생성 (삭제된 진료기록 반영)
+    @Operation(summary = "고유 반려동물 스케치 재생성")
+    @PostMapping("/unique-pets/rebuild")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<Void> rebuildUniquePets(){
+        distinctPetSketchService.rebuild();
+        return ResponseEntity.ok().build();
+    }
+
+    //요일 × 시간대 예약 수요 (월별, 병원별)
+    @Operation(summary = "요일×시간대 예약 수요 히트맵", description = "month: yyyy-MM / vetId 생략 시 소속 병원(없으면 전체 병원)")
+    @GetMapping("/slot-heatmap")
+    public SlotHeatmapDto getSlotHeatmap(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(required = false) Long vetId){
+        return slotHeatmapService.getHeatmap(month, currentVet.scope(vetId));
     }
 
     // 대시보드(상단통계카드)
@@ -72,15 +187,26 @@ public class StatisticsController {
     //추가(의료진, 관리자)
     // 관리자 대시보드 통계
     @GetMapping("/admin/dashboard")
-    @Operation(summary = "관리자 대시보드 통계 조회")
+    @Operation(summary = "관리자 대시보드 통계 조회",
+            description = "totalPets: 등록된 전체 반려동물 수(정확한 값) / treatedPets: 소속 병원에서 진료한 고유 반려동물 수(추정치, 소속 병원이 없으면 null)")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<AdminStatsDto> getAdminDashboardStats(
             @AuthenticationPrincipal UserDetails currentUser) {
 
-        AdminStatsDto stats = statisticsService.getAdminDashboardStats(currentUser);
+        AdminStatsDto stats = statisticsService.getAdminDashboardStats(currentUser, currentVet.getVetId());
         return ResponseEntity.ok(stats);
     }
 
+    // 관리자 대시보드 실시간 카운터 - 최초 1회 조회 후 SSE "dashboard" 이벤트로 갱신
+    @GetMapping("/admin/dashboard/live")
+    @Operation(summary = "관리자 대시보드 실시간 카운터 조회")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<LiveDashboardDto> getLiveAdminDashboard(
+            @AuthenticationPrincipal UserDetails currentUser) {
+
+        return ResponseEntity.ok(statisticsService.getLiveAdminDashboard(currentUser, currentVet.getVetId()));
+    }
+
     // 의료진 대시보드 통계 (수정됨)
     @GetMapping("/staff/dashboard")
     @Operation(summary = "의료진 대시보드 통계 조회")
@@ -88,7 +214,15 @@ public class StatisticsController {
     public ResponseEntity<StaffStatsDto> getStaffDashboardStats(
             @AuthenticationPrincipal UserDetails currentUser) {
 
-        StaffStatsDto stats = statisticsService.getStaffDashboardStats(currentUser);
+        StaffStatsDto stats = statisticsService.getStaffDashboardStats(currentUser, currentVet.getVetId());
         return ResponseEntity.ok(stats);
     }
+
+    // 대시보드 통계 캐시 현황
+    @GetMapping("/cache-stats")
+    @Operation(summary = "대시보드 통계 캐시 적중/미스 현황")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<DashboardCacheStatsDto> getDashboardCacheStats() {
+        return ResponseEntity.ok(statisticsService.getDashboardCacheStats());
+    }
 }
@@ -5,14 +5,19 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class AdminStatsDto {
-    private int todayTotalReservations;     // 당일 전체 예약 수
-    private int totalPets;                  // 총 반려동물 수
-    private int pendingReservations;        // 승인 대기 예약 수
-    private int weeklyCompletedTreatments;  // 7일간 진료 완료 건수
-    private int recentVaccinations; // 추가(최근예방접종)
+    private Integer todayTotalReservations; // 당일 전체 예약 수
+    private Integer totalPets;              // 총 반려동물 수 (전체 병원, 정확한 값)
+    private Integer treatedPets;            // 소속 병원에서 진료한 고유 반려동물 수 (스케치 추정치, 소속 병원이 없으면 null)
+    private Integer pendingReservations;    // 승인 대기 예약 수
+    private Integer weeklyCompletedTreatments; // 7일간 진료 완료 건수
+    private Integer recentVaccinations; // 추가(최근예방접종)
+    @Builder.Default
+    private List<String> missingCards = List.of(); // 시간 초과/실패로 값을 채우지 못한 카드
 }
@@ -0,0 +1,14 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BreakdownBucketDto {
+    private String key;     // 분류 값 (종, 품종, 담당의 ID, 유형 등)
+    private String label;   // 화면 표시용 이름
+    private Long count;
+}
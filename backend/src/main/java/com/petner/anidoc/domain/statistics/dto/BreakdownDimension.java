@@ -0,0 +1,19 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import java.util.Arrays;
+
+// 통계 분류 기준
+public enum BreakdownDimension {
+    SPECIES,            // 종(강아지/고양이/...)
+    BREED,              // 품종
+    DOCTOR,             // 담당의
+    RESERVATION_TYPE,   // 예약 유형(일반진료/예방접종)
+    CHECKUP_TYPE;       // 검사 유형
+
+    public static BreakdownDimension from(String value) {
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 통계 기준입니다: " + value));
+    }
+}
@@ -0,0 +1,19 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BreakdownDto {
+    private BreakdownDimension dimension;
+    private LocalDate startDate;    // 포함
+    private LocalDate endDate;      // 미포함
+    private List<BreakdownBucketDto> buckets;
+    private Long totalCount;
+}
@@ -0,0 +1,18 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCacheStatsDto {
+    private long hits;          // 캐시 적중 수
+    private long misses;        // 캐시 미스(DB 조회) 수
+    private long evictions;     // 무효화 수
+    private int size;           // 현재 캐시된 카드 수
+    private double hitRate;     // 적중률(%)
+}
@@ -0,0 +1,22 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 관리자 대시보드 실시간 카운터 (SSE "dashboard" 이벤트)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveDashboardDto {
+    private int todayTotalReservations;     // 오늘 확정된 예약 수
+    private int pendingReservations;        // 승인 대기 예약 수
+    private int weeklyCompletedTreatments;  // 이번 주 진료 완료 건수
+    private int recentVaccinations;         // 이번 주 예방접종 건수
+    @Builder.Default
+    private Map<String, Integer> deltas = Map.of(); // 이번 변경으로 달라진 값 (필드명 -> 증감)
+}
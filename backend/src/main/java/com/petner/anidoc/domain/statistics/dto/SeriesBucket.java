@@ -0,0 +1,46 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+// 시계열 통계 구간 단위 (주는 월요일 시작)
+public enum SeriesBucket {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS),
+    MONTH(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    SeriesBucket(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public static SeriesBucket from(String value) {
+        return Arrays.stream(values())
+                .filter(bucket -> bucket.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 구간 단위입니다: " + value));
+    }
+
+    // 날짜가 속한 구간의 시작일
+    public LocalDate truncate(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    // 다음 구간의 시작일
+    public LocalDate next(LocalDate bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    // [from, to) 기간을 덮는 구간 수
+    public long countBuckets(LocalDate from, LocalDate to) {
+        return unit.between(truncate(from), truncate(to.minusDays(1))) + 1;
+    }
+}
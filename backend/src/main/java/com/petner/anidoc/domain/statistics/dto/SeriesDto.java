@@ -0,0 +1,19 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeriesDto {
+    private SeriesMetric metric;
+    private SeriesBucket bucket;
+    private LocalDate from;             // 포함
+    private LocalDate to;               // 미포함
+    private List<SeriesPointDto> points;
+}
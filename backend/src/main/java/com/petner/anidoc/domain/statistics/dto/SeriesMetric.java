@@ -0,0 +1,17 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import java.util.Arrays;
+
+// 시계열 통계 지표
+public enum SeriesMetric {
+    VISITS,         // 방문(진료기록) 건수 - 진료일 기준
+    RESERVATIONS,   // 예약 건수 - 예약일 기준
+    VACCINATIONS;   // 예방접종 건수 - 접종일 기준
+
+    public static SeriesMetric from(String value) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 통계 지표입니다: " + value));
+    }
+}
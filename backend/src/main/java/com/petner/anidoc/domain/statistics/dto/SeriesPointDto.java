@@ -0,0 +1,16 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeriesPointDto {
+    private LocalDate startDate;    // 구간 시작일 (포함)
+    private LocalDate endDate;      // 구간 종료일 (미포함)
+    private Long count;
+}
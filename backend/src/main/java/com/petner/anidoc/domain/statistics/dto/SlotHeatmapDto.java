@@ -0,0 +1,22 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+
+// 요일 × 예약 시간대 수요 (행: 월~일, 열: slots 순서)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlotHeatmapDto {
+    private YearMonth month;
+    private Long vetId;             // null 이면 전체 병원
+    private List<LocalTime> slots;  // 열 순서 (Reservation.RESERVATION_TIMES)
+    private long[][] requested;     // 전체 예약 (취소 제외)
+    private long[][] approved;      // 승인
+    private long[][] rejected;      // 거절
+}
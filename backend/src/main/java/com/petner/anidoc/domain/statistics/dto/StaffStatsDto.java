@@ -5,14 +5,18 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class StaffStatsDto {
-    private int todayMyReservations;        // 해당 의료진의 오늘 예약
-    private int myTreatedPets;              // 해당 의료진이 진료한 고유 반려동물 수
-    private int pendingReservations;        // 승인 대기 예약 수 (동일)
-    private int weeklyMyTreatments;         // 해당 의료진의 주간 진료 수
-    private int weeklyVaccinations; // 추가(주간예방접종)
+    private Integer todayMyReservations;    // 해당 의료진의 오늘 예약
+    private Integer myTreatedPets;          // 해당 의료진이 진료한 고유 반려동물 수
+    private Integer pendingReservations;    // 승인 대기 예약 수 (동일)
+    private Integer weeklyMyTreatments;     // 해당 의료진의 주간 진료 수
+    private Integer weeklyVaccinations; // 추가(주간예방접종)
+    @Builder.Default
+    private List<String> missingCards = List.of(); // 시간 초과/실패로 값을 채우지 못한 카드
 }
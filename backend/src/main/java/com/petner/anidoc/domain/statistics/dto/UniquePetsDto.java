@@ -0,0 +1,20 @@
+package com.petner.anidoc.domain.statistics.dto;
+
+import com.petner.anidoc.domain.statistics.entity.SketchScope;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UniquePetsDto {
+    private SketchScope scope;
+    private Long scopeId;
+    private YearMonth from;     // null 이면 전체 기간
+    private YearMonth to;       // 포함
+    private Long count;
+    private boolean exact;      // false 면 HyperLogLog 추정치 (오차 약 1.6%)
+}
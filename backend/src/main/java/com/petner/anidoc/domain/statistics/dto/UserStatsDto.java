@@ -6,15 +6,18 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserStatsDto {
-    private int todayReservations;           // 오늘 예약
-    private int upcomingReservations;        // 예정된 예약 (오늘 미완료 + 미래 승인됨)
-    private int pendingReservations;         // 승인 대기 예약
-    private int totalPets;
-    private int totalTreatments;
+    private Integer todayReservations;       // 오늘 예약
+    private Integer upcomingReservations;    // 예정된 예약 (오늘 미완료 + 미래 승인됨)
+    private Integer pendingReservations;     // 승인 대기 예약
+    private Integer totalPets;
+    private Integer totalTreatments;
     private LocalDate lastVisitDate;
+    @Builder.Default
+    private List<String> missingCards = List.of(); // 시간 초과/실패로 값을 채우지 못한 카드
 }
@@ -0,0 +1,47 @@
+package com.petner.anidoc.domain.statistics.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 종료된 기간(지난 주/지난 달 등)의 통계 결과
+ * - 기간이 끝난 뒤에는 값이 바뀌지 않으므로 한 번 계산한 결과(JSON)를 저장해 재사용
+ * - 해당 기간의 진료기록이 뒤늦게 삭제/변경되면 그 기간의 행만 지우고 다음 조회 때 다시 계산
+ * - 병원별로 따로 보관하며 vet_id 가 ALL_VETS(0) 이면 전체 병원 기준 결과
+ *   (MySQL 유니크 키는 NULL 이 들어간 행끼리 중복을 막지 못하므로 null 대신 0 을 사용)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "closed_period_stat_v2",
+        uniqueConstraints = @UniqueConstraint(name = "uk_closed_period_stat_v2_key",
+                columnNames = {"metric", "vet_id", "period_start", "period_end"}))
+public class ClosedPeriodStat extends BaseEntity {
+
+    public static final long ALL_VETS = 0L;
+
+    @Column(nullable = false, length = 30)
+    private String metric;
+
+    @Column(name = "vet_id", nullable = false)
+    private Long vetId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart; // 포함
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd; // 미포함
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+}
@@ -0,0 +1,52 @@
+package com.petner.anidoc.domain.statistics.entity;
+
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 방문(진료기록) 집계
+ * - (일자, 병원, 종, 예약유형) 단위로 진료기록 수를 누적 (병원은 담당의 소속 병원)
+ * - 진료기록 생성/삭제 시 증분 반영되며, 기간 통계는 이 테이블의 합계로 계산
+ * - 집계 키에 유니크 제약을 두고 INSERT ... ON DUPLICATE KEY UPDATE 로 증감 (같은 키의 첫 반영이 동시에 와도 한 행)
+ *   - MySQL 은 NULL 이 섞인 키의 중복을 막지 않으므로 키 컬럼은 NULL 대신 NO_VET_ID / NO_SPECIES 로 저장
+ *   - 키가 NULL 이던 이전 테이블(daily_visit_rollup)에는 중복 행이 있을 수 있어 새 테이블로 옮김 (비어 있으면 진료기록으로 다시 채움)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "daily_visit_rollup_v2",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_visit_rollup_v2_key",
+                columnNames = {"visit_date", "vet_id", "species", "reservation_type"}),
+        indexes = @Index(name = "idx_daily_visit_rollup_v2_vet_date", columnList = "vet_id, visit_date"))
+public class DailyVisitRollup extends BaseEntity {
+
+    public static final long NO_VET_ID = 0L; // 소속 병원이 없는 담당의
+    public static final String NO_SPECIES = ""; // 종 미입력
+
+    @Column(name = "visit_date", nullable = false)
+    private LocalDate visitDate;
+
+    @Column(name = "vet_id", nullable = false)
+    private Long vetId;
+
+    @Column(length = 50, nullable = false) //종
+    private String species;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_type", nullable = false)
+    private ReservationType reservationType;
+
+    @Column(name = "visit_count", nullable = false)
+    private Long visitCount;
+}
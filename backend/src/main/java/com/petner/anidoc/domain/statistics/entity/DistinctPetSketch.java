@@ -0,0 +1,46 @@
+package com.petner.anidoc.domain.statistics.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 진료한 고유 반려동물 수 추정용 HyperLogLog 스케치
+ * - (집계 단위, 대상 ID, 기간) 마다 하나씩 저장
+ * - 기간은 전체("ALL") 또는 월("yyyy-MM")
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString(exclude = "registers")
+@Table(name = "distinct_pet_sketch",
+        uniqueConstraints = @UniqueConstraint(name = "uk_distinct_pet_sketch_key",
+                columnNames = {"scope", "scope_id", "period_key"}))
+public class DistinctPetSketch extends BaseEntity {
+
+    public static final String ALL_PERIOD = "ALL";
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SketchScope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "period_key", nullable = false, length = 7)
+    private String periodKey;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] registers;
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+}
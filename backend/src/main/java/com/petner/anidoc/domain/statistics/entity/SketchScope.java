@@ -0,0 +1,16 @@
+package com.petner.anidoc.domain.statistics.entity;
+
+import java.util.Arrays;
+
+// 고유 반려동물 스케치 집계 단위
+public enum SketchScope {
+    DOCTOR, // 담당의별
+    VET;    // 병원별
+
+    public static SketchScope from(String value) {
+        return Arrays.stream(values())
+                .filter(scope -> scope.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 집계 단위입니다: " + value));
+    }
+}
@@ -0,0 +1,47 @@
+package com.petner.anidoc.domain.statistics.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 요일 × 예약 시간대 수요 집계
+ * - (병원, 월, 요일, 시간대) 단위로 예약 건수(전체/승인/거절)를 누적
+ * - 예약 생성/변경/취소 시 같은 트랜잭션에서 증분 반영 (취소된 예약은 빠짐)
+ * - 같은 키로 행이 중복되더라도 합계에는 영향이 없으므로 유니크 제약은 두지 않음
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "slot_heatmap_cell",
+        indexes = @Index(name = "idx_slot_heatmap_cell_month", columnList = "period_month, vet_id"))
+public class SlotHeatmapCell extends BaseEntity {
+
+    @Column(name = "vet_id") // 담당의 미배정 예약은 null
+    private Long vetId;
+
+    @Column(name = "period_month", nullable = false, length = 7) // yyyy-MM
+    private String periodMonth;
+
+    @Column(name = "day_of_week", nullable = false) // 1(월) ~ 7(일)
+    private Integer dayOfWeek;
+
+    @Column(name = "slot_index", nullable = false) // Reservation.RESERVATION_TIMES 인덱스
+    private Integer slotIndex;
+
+    @Column(name = "requested_count", nullable = false)
+    private Long requestedCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private Long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Long rejectedCount;
+}
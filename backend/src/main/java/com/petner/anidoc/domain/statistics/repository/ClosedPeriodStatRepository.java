@@ -0,0 +1,45 @@
+package com.petner.anidoc.domain.statistics.repository;
+
+import com.petner.anidoc.domain.statistics.entity.ClosedPeriodStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ClosedPeriodStatRepository extends JpaRepository<ClosedPeriodStat, Long> {
+
+    //저장된 결과 조회 (vetId 가 ClosedPeriodStat.ALL_VETS 이면 전체 병원 기준 행)
+    @Query("SELECT c FROM ClosedPeriodStat c WHERE c.metric = :metric AND c.vetId = :vetId"
+            + " AND c.periodStart = :periodStart AND c.periodEnd = :periodEnd")
+    List<ClosedPeriodStat> findByKey(@Param("metric") String metric,
+                                     @Param("vetId") Long vetId,
+                                     @Param("periodStart") LocalDate periodStart,
+                                     @Param("periodEnd") LocalDate periodEnd);
+
+    //해당 일자를 포함하는 기간의 결과 삭제 - 해당 병원과 전체 병원 기준(vetId 0 = ALL_VETS) 행만
+    @Modifying
+    @Query("DELETE FROM ClosedPeriodStat c WHERE c.periodStart <= :date AND c.periodEnd > :date"
+            + " AND (c.vetId = 0 OR c.vetId = :vetId)")
+    int deleteCovering(@Param("date") LocalDate date, @Param("vetId") Long vetId);
+
+    @Modifying
+    @Query("DELETE FROM ClosedPeriodStat c WHERE c.metric = :metric AND c.vetId = :vetId"
+            + " AND c.periodStart = :periodStart AND c.periodEnd = :periodEnd")
+    int deleteByKey(@Param("metric") String metric,
+                    @Param("vetId") Long vetId,
+                    @Param("periodStart") LocalDate periodStart,
+                    @Param("periodEnd") LocalDate periodEnd);
+
+    @Modifying
+    @Query("DELETE FROM ClosedPeriodStat c WHERE c.metric = :metric")
+    int deleteByMetric(@Param("metric") String metric);
+
+    @Modifying
+    @Query("DELETE FROM ClosedPeriodStat c")
+    int deleteAllStats();
+}
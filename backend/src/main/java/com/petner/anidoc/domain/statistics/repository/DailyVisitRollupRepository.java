@@ -0,0 +1,58 @@
+package com.petner.anidoc.domain.statistics.repository;
+
+import com.petner.anidoc.domain.statistics.entity.DailyVisitRollup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface DailyVisitRollupRepository extends JpaRepository<DailyVisitRollup, Long> {
+
+    //기간 내 방문 건수 합계 (startDate 포함, endDate 미포함, vetId 가 null 이면 전체 병원)
+    @Query("SELECT COALESCE(SUM(d.visitCount), 0L) FROM DailyVisitRollup d "
+            + "WHERE d.visitDate >= :startDate AND d.visitDate < :endDate"
+            + " AND (:vetId IS NULL OR d.vetId = :vetId)")
+    Long sumVisitCount(@Param("startDate") LocalDate startDate,
+                       @Param("endDate") LocalDate endDate,
+                       @Param("vetId") Long vetId);
+
+    //시계열 통계용 일자별 방문 건수 (일자, 건수) - 일자 오름차순
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT d.visitDate, SUM(d.visitCount) FROM DailyVisitRollup d"
+            + " WHERE d.visitDate >= :startDate AND d.visitDate < :endDate"
+            + " AND (:vetId IS NULL OR d.vetId = :vetId)"
+            + " GROUP BY d.visitDate ORDER BY d.visitDate")
+    Stream<Object[]> streamDailyVisitCounts(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate,
+                                            @Param("vetId") Long vetId);
+
+    //집계 키 행에 증감 - 행이 없으면 만들고, 있으면 DB 에서 더함 (동시 첫 반영도 유니크 키로 한 행에 모임)
+    @Modifying
+    @Query(value = "INSERT INTO daily_visit_rollup_v2"
+            + " (visit_date, vet_id, species, reservation_type, visit_count, created_at, updated_at)"
+            + " VALUES (:visitDate, :vetId, :species, :reservationType, :delta, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+            + " ON DUPLICATE KEY UPDATE visit_count = visit_count + VALUES(visit_count), updated_at = CURRENT_TIMESTAMP",
+            nativeQuery = true)
+    int upsertVisitCount(@Param("visitDate") LocalDate visitDate,
+                         @Param("vetId") long vetId,
+                         @Param("species") String species,
+                         @Param("reservationType") String reservationType,
+                         @Param("delta") long delta);
+
+    //진료기록 원본에서 집계 재생성용 (일자, 병원, 종, 예약유형, 건수) - 병원/종이 없으면 NO_VET_ID / NO_SPECIES
+    @Query("SELECT CAST(m.createdAt AS LocalDate), COALESCE(v.id, 0L), COALESCE(p.species, ''), r.type, COUNT(m)"
+            + " FROM MedicalRecord m"
+            + " JOIN m.pet p JOIN m.reservation r JOIN m.doctor doc LEFT JOIN doc.vetInfo v"
+            + " WHERE m.isDeleted = false"
+            + " GROUP BY CAST(m.createdAt AS LocalDate), COALESCE(v.id, 0L), COALESCE(p.species, ''), r.type")
+    List<Object[]> aggregateFromMedicalRecords();
+}
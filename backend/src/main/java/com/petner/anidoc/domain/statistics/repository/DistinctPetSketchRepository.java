@@ -0,0 +1,31 @@
+package com.petner.anidoc.domain.statistics.repository;
+
+import com.petner.anidoc.domain.statistics.entity.DistinctPetSketch;
+import com.petner.anidoc.domain.statistics.entity.SketchScope;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface DistinctPetSketchRepository extends JpaRepository<DistinctPetSketch, Long> {
+
+    Optional<DistinctPetSketch> findByScopeAndScopeIdAndPeriodKey(SketchScope scope, Long scopeId, String periodKey);
+
+    //저장된 레지스터와 합쳐서 저장할 때 사용 - 다른 인스턴스가 같은 스케치를 동시에 덮어쓰지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DistinctPetSketch s"
+            + " WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.periodKey = :periodKey")
+    Optional<DistinctPetSketch> findForUpdate(@Param("scope") SketchScope scope,
+                                              @Param("scopeId") Long scopeId,
+                                              @Param("periodKey") String periodKey);
+
+    //마지막으로 저장된 시각 (재시작 시 이후 진료기록을 다시 반영하는 기준)
+    @Query("SELECT MAX(s.updatedAt) FROM DistinctPetSketch s")
+    Optional<LocalDateTime> findLastSavedAt();
+}
@@ -0,0 +1,47 @@
+package com.petner.anidoc.domain.statistics.repository;
+
+import com.petner.anidoc.domain.statistics.entity.SlotHeatmapCell;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SlotHeatmapCellRepository extends JpaRepository<SlotHeatmapCell, Long> {
+
+    //월별 요일×시간대 합계 (요일, 시간대, 전체, 승인, 거절) - vetId 가 null 이면 전체 병원
+    @Query("SELECT c.dayOfWeek, c.slotIndex, SUM(c.requestedCount), SUM(c.approvedCount), SUM(c.rejectedCount)"
+            + " FROM SlotHeatmapCell c WHERE c.periodMonth = :periodMonth"
+            + " AND (:vetId IS NULL OR c.vetId = :vetId)"
+            + " GROUP BY c.dayOfWeek, c.slotIndex")
+    List<Object[]> sumByMonth(@Param("periodMonth") String periodMonth,
+                              @Param("vetId") Long vetId);
+
+    //집계 키로 행 조회 (병원 미배정도 같은 키로 취급)
+    @Query("SELECT c.id FROM SlotHeatmapCell c WHERE c.periodMonth = :periodMonth"
+            + " AND ((:vetId IS NULL AND c.vetId IS NULL) OR c.vetId = :vetId)"
+            + " AND c.dayOfWeek = :dayOfWeek AND c.slotIndex = :slotIndex")
+    List<Long> findIdsByKey(@Param("vetId") Long vetId,
+                            @Param("periodMonth") String periodMonth,
+                            @Param("dayOfWeek") Integer dayOfWeek,
+                            @Param("slotIndex") Integer slotIndex);
+
+    //동시 갱신에도 값이 유실되지 않도록 DB에서 증감
+    @Modifying
+    @Query("UPDATE SlotHeatmapCell c SET c.requestedCount = c.requestedCount + :requested,"
+            + " c.approvedCount = c.approvedCount + :approved,"
+            + " c.rejectedCount = c.rejectedCount + :rejected WHERE c.id = :id")
+    int addCounts(@Param("id") Long id,
+                  @Param("requested") Long requested,
+                  @Param("approved") Long approved,
+                  @Param("rejected") Long rejected);
+
+    //예약 원본에서 집계 재생성용 (예약일, 예약시간, 병원 ID, 상태, 건수)
+    @Query("SELECT r.reservationDate, r.reservationTime, v.id, r.status, COUNT(r) FROM Reservation r"
+            + " LEFT JOIN r.doctor d LEFT JOIN d.vetInfo v"
+            + " GROUP BY r.reservationDate, r.reservationTime, v.id, r.status")
+    List<Object[]> aggregateFromReservations();
+}
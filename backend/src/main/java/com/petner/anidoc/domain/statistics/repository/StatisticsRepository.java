@@ -1,42 +1,22 @@
 package com.petner.anidoc.domain.statistics.repository;
 
 import com.petner.anidoc.domain.vet.medicalrecord.entity.MedicalRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface StatisticsRepository extends JpaRepository<MedicalRecord, Long> {
 
-    //전주 방문 건수
-    @Query("SELECT COUNT(m) FROM MedicalRecord m "
-            +"WHERE m.createdAt >= :startDate And m.createdAt < :endDate")
-    Long countLastWeekVisits(@Param("startDate")LocalDateTime startDate,
-                             @Param("endDate")LocalDateTime endDate);
-
-    //이번 주 방문 건수
-    @Query("SELECT COUNT(m) FROM MedicalRecord m "
-            +"WHERE m.createdAt >= :startDate And m.createdAt <= :endDate")
-    Long countThisWeekVisits(@Param("startDate")LocalDateTime startDate,
-                             @Param("endDate")LocalDateTime endDate);
-
-    //전월 방문 건수
-    @Query("SELECT COUNT(m) FROM MedicalRecord m"
-    + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate")
-    Long countLastMonthVisits(@Param("startDate")LocalDateTime startDate,
-                              @Param("endDate")LocalDateTime endDate);
-
-
-    //이번 달 방문 건수
-    @Query("SELECT COUNT(m) FROM MedicalRecord m"
-            + " WHERE m.createdAt >= :startDate AND m.createdAt <= :endDate")
-    Long countThisMonthVisits(@Param("startDate")LocalDateTime startDate,
-                              @Param("endDate")LocalDateTime endDate);
-
-
     //예방접종 건수
     @Query("SELECT COUNT(m) FROM MedicalRecord m"
             + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate"
@@ -45,28 +25,123 @@ public interface StatisticsRepository extends JpaRepository<MedicalRecord, Long>
                               @Param("endDate")LocalDateTime endDate);
 
 
-    //강아지 진료 건수(전체 진료)
-    @Query("SELECT COUNT(m) FROM MedicalRecord  m " +
-            " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate" +
-            " AND m.pet.species = '강아지'")
-    Long countDogTreatments(@Param("startDate")LocalDateTime startDate,
-                              @Param("endDate")LocalDateTime endDate);
-
-
-    //고양이 진료 건수(전체 진료)
-    @Query("SELECT COUNT(m) FROM MedicalRecord  m " +
-            " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate" +
-            " AND m.pet.species = '고양이'")
-    Long countCatTreatments(@Param("startDate")LocalDateTime startDate,
-                              @Param("endDate")LocalDateTime endDate);
-
-
-    //기타 동물 진료 건수(전체 진료)
-    @Query("SELECT COUNT(m) FROM MedicalRecord  m " +
-            " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate" +
-            " AND m.pet.species NOT IN ('강아지', '고양이') ")
-    Long countOtherTreatments(@Param("startDate")LocalDateTime startDate,
-                              @Param("endDate")LocalDateTime endDate);
-
+    //분류 기준별 진료 건수 - 한 번의 GROUP BY 로 모든 구간을 조회
+    //병원은 담당의 소속 병원 기준 (vetId 가 null 이면 전체 병원)
+    //종별 (종, 건수)
+    @Query("SELECT p.species, COUNT(m) FROM MedicalRecord m JOIN m.pet p JOIN m.doctor doc"
+            + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate AND m.isDeleted = false"
+            + " AND (:vetId IS NULL OR doc.vetInfo.id = :vetId)"
+            + " GROUP BY p.species")
+    List<Object[]> countGroupBySpecies(@Param("startDate")LocalDateTime startDate,
+                                       @Param("endDate")LocalDateTime endDate,
+                                       @Param("vetId") Long vetId);
+
+    //품종별 (품종, 건수)
+    @Query("SELECT p.breed, COUNT(m) FROM MedicalRecord m JOIN m.pet p JOIN m.doctor doc"
+            + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate AND m.isDeleted = false"
+            + " AND (:vetId IS NULL OR doc.vetInfo.id = :vetId)"
+            + " GROUP BY p.breed")
+    List<Object[]> countGroupByBreed(@Param("startDate")LocalDateTime startDate,
+                                     @Param("endDate")LocalDateTime endDate,
+                                     @Param("vetId") Long vetId);
+
+    //담당의별 (담당의 ID, 이름, 건수)
+    @Query("SELECT d.id, d.name, COUNT(m) FROM MedicalRecord m JOIN m.doctor d"
+            + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate AND m.isDeleted = false"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)"
+            + " GROUP BY d.id, d.name")
+    List<Object[]> countGroupByDoctor(@Param("startDate")LocalDateTime startDate,
+                                      @Param("endDate")LocalDateTime endDate,
+                                      @Param("vetId") Long vetId);
+
+    //예약 유형별 (ReservationType, 건수)
+    @Query("SELECT r.type, COUNT(m) FROM MedicalRecord m JOIN m.reservation r JOIN m.doctor doc"
+            + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate AND m.isDeleted = false"
+            + " AND (:vetId IS NULL OR doc.vetInfo.id = :vetId)"
+            + " GROUP BY r.type")
+    List<Object[]> countGroupByReservationType(@Param("startDate")LocalDateTime startDate,
+                                               @Param("endDate")LocalDateTime endDate,
+                                               @Param("vetId") Long vetId);
+
+    //검사 유형별 (CheckupType, 건수) - 진료기록 작성일 기준
+    @Query("SELECT c.checkupType, COUNT(c) FROM CheckupRecord c JOIN c.medicalRecord m JOIN m.doctor doc"
+            + " WHERE m.createdAt >= :startDate AND m.createdAt < :endDate"
+            + " AND m.isDeleted = false AND c.isDeleted = false"
+            + " AND (:vetId IS NULL OR doc.vetInfo.id = :vetId)"
+            + " GROUP BY c.checkupType")
+    List<Object[]> countGroupByCheckupType(@Param("startDate")LocalDateTime startDate,
+                                           @Param("endDate")LocalDateTime endDate,
+                                           @Param("vetId") Long vetId);
+
+    //시계열 통계용 일자별 건수 - 일자 오름차순으로 흘려보내며 구간별로 합산
+    //예약일별 (일자, 건수) - 담당의가 없는 예약은 전체 병원 기준에만 포함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.reservationDate, COUNT(r) FROM Reservation r LEFT JOIN r.doctor d"
+            + " WHERE r.reservationDate >= :startDate AND r.reservationDate < :endDate"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)"
+            + " GROUP BY r.reservationDate ORDER BY r.reservationDate")
+    Stream<Object[]> streamDailyReservationCounts(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("vetId") Long vetId);
+
+    //접종일별 (일자, 건수)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT v.vaccinationDate, COUNT(v) FROM Vaccination v JOIN v.doctor d"
+            + " WHERE v.vaccinationDate >= :startDate AND v.vaccinationDate < :endDate"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)"
+            + " GROUP BY v.vaccinationDate ORDER BY v.vaccinationDate")
+    Stream<Object[]> streamDailyVaccinationCounts(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("vetId") Long vetId);
+
+    //관리자 대시보드 카운터 (vetId 가 null 이면 전체 병원)
+    //오늘 확정 예약
+    @Query("SELECT COUNT(r) FROM Reservation r LEFT JOIN r.doctor d"
+            + " WHERE r.reservationDate = :date AND r.status = 'APPROVED'"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)")
+    int countApprovedReservations(@Param("date") LocalDate date, @Param("vetId") Long vetId);
+
+    //승인 대기 - 병원이 정해지지 않은 예약(담당의 미배정 등)은 모든 병원에 포함
+    @Query("SELECT COUNT(r) FROM Reservation r LEFT JOIN r.doctor d"
+            + " WHERE r.status = 'PENDING'"
+            + " AND (:vetId IS NULL OR d.vetInfo IS NULL OR d.vetInfo.id = :vetId)")
+    int countPendingReservations(@Param("vetId") Long vetId);
+
+    //기간 내 진료 (startDateTime, endDateTime 포함)
+    @Query("SELECT COUNT(m) FROM MedicalRecord m JOIN m.doctor d"
+            + " WHERE m.isDeleted = false AND m.createdAt BETWEEN :startDateTime AND :endDateTime"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)")
+    int countTreatments(@Param("startDateTime") LocalDateTime startDateTime,
+                        @Param("endDateTime") LocalDateTime endDateTime,
+                        @Param("vetId") Long vetId);
+
+    //기간 내 예방접종 (startDateTime, endDateTime 포함)
+    @Query("SELECT COUNT(v) FROM Vaccination v JOIN v.doctor d"
+            + " WHERE v.createdAt BETWEEN :startDateTime AND :endDateTime"
+            + " AND (:vetId IS NULL OR d.vetInfo.id = :vetId)")
+    int countVaccinations(@Param("startDateTime") LocalDateTime startDateTime,
+                          @Param("endDateTime") LocalDateTime endDateTime,
+                          @Param("vetId") Long vetId);
+
+    //고유 반려동물 스케치 반영용 (담당의 ID, 병원 ID, 반려동물 ID, 작성일시)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT d.id, v.id, m.pet.id, m.createdAt FROM MedicalRecord m"
+            + " JOIN m.doctor d LEFT JOIN d.vetInfo v"
+            + " WHERE m.isDeleted = false AND m.createdAt >= :since")
+    Stream<Object[]> streamTreatedPetsSince(@Param("since") LocalDateTime since);
+
+    //고유 반려동물 수 - 정확한 값 (감사용)
+    @Query("SELECT COUNT(DISTINCT m.pet.id) FROM MedicalRecord m"
+            + " WHERE m.doctor.id = :doctorId AND m.isDeleted = false"
+            + " AND m.createdAt >= :startDate AND m.createdAt < :endDate")
+    long countDistinctPetsByDoctor(@Param("doctorId") Long doctorId,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT COUNT(DISTINCT m.pet.id) FROM MedicalRecord m"
+            + " WHERE m.doctor.vetInfo.id = :vetId AND m.isDeleted = false"
+            + " AND m.createdAt >= :startDate AND m.createdAt < :endDate")
+    long countDistinctPetsByVet(@Param("vetId") Long vetId,
+                                @Param("startDate") LocalDateTime startDate,
+                                @Param("endDate") LocalDateTime endDate);
 }
-
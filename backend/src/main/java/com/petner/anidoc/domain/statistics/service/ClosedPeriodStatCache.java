@@ -0,0 +1,156 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petner.anidoc.domain.statistics.entity.ClosedPeriodStat;
+import com.petner.anidoc.domain.statistics.repository.ClosedPeriodStatRepository;
+import com.petner.anidoc.global.ut.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ✅ ClosedPeriodStatCache
+ * - 이미 끝난 기간 [start, end) 의 통계 결과를 메모리와 closed_period_stat_v2 테이블에 보관
+ * - 아직 끝나지 않은 기간(end 가 내일 이후)은 캐시하지 않고 항상 새로 계산
+ * - 병원(vetId)별로 따로 보관하며 vetId 가 null 이면 전체 병원 기준 (ClosedPeriodStat.ALL_VETS 로 저장)
+ * - 뒤늦은 변경은 invalidate(date, vetId) 로 해당 일자를 포함하는 기간만 무효화
+ */
+@Slf4j
+@Component
+public class ClosedPeriodStatCache {
+
+    public static final String VISITS = "VISITS";
+    public static final String ANIMAL_TYPE = "ANIMAL_TYPE";
+
+    private final ClosedPeriodStatRepository closedPeriodStatRepository;
+    private final ObjectMapper objectMapper;
+    // 조회 트랜잭션이나 커밋 이후 콜백과 분리된 별도 트랜잭션에서 저장/삭제
+    private final TransactionTemplate writeTransaction;
+
+    private final Map<Key, Object> entries = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가 - 읽거나 계산하는 도중 무효화된 결과는 메모리/테이블에 남기지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public ClosedPeriodStatCache(ClosedPeriodStatRepository closedPeriodStatRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.closedPeriodStatRepository = closedPeriodStatRepository;
+        this.objectMapper = objectMapper;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T get(String metric, Long vetId, LocalDate start, LocalDate end, Class<T> type, Supplier<T> loader) {
+        if (end.isAfter(LocalDate.now())) {
+            return loader.get(); // 진행 중인 기간
+        }
+
+        long scope = scopeOf(vetId);
+        Key key = new Key(metric, scope, start, end);
+        Object cached = entries.get(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+
+        long loadedGeneration = generation.get();
+        T value = closedPeriodStatRepository.findByKey(metric, scope, start, end).stream()
+                .findFirst()
+                .map(stat -> read(stat.getPayload(), type))
+                .orElse(null);
+        boolean computed = value == null;
+        if (computed) {
+            value = loader.get();
+            save(key, value);
+        }
+
+        entries.put(key, value);
+        // 읽거나 계산하는 동안 무효화가 있었다면 이전 데이터일 수 있으므로 버림
+        // (무효화가 행을 지운 뒤에 저장했을 수 있으므로 저장한 행도 삭제)
+        if (generation.get() != loadedGeneration) {
+            entries.remove(key, value);
+            if (computed) {
+                writeTransaction.execute(status -> closedPeriodStatRepository.deleteByKey(metric, scope, start, end));
+            }
+        }
+        return value;
+    }
+
+    // 해당 일자를 포함하는 종료된 기간 무효화 (커밋 이후) - 해당 병원과 전체 병원 기준 결과만
+    public void invalidate(LocalDate date, Long vetId) {
+        if (!date.isBefore(LocalDate.now())) {
+            return; // 오늘 이후는 아직 끝난 기간에 포함되지 않음
+        }
+        TransactionUtil.afterCommit(() -> {
+            Integer deleted = evict(key -> !key.start().isAfter(date) && key.end().isAfter(date)
+                            && (key.vetId() == ClosedPeriodStat.ALL_VETS || (vetId != null && key.vetId() == vetId)),
+                    () -> closedPeriodStatRepository.deleteCovering(date, vetId));
+            log.info("종료 기간 통계 무효화: {} 포함 (병원 {}) {}건", date, vetId, deleted);
+        });
+    }
+
+    // 기간과 무관하게 특정 지표 전체 무효화 (예: 반려동물 종 변경)
+    public void invalidateMetric(String metric) {
+        TransactionUtil.afterCommit(() -> evict(key -> key.metric().equals(metric),
+                () -> closedPeriodStatRepository.deleteByMetric(metric)));
+    }
+
+    public void invalidateAll() {
+        TransactionUtil.afterCommit(() -> evict(key -> true, closedPeriodStatRepository::deleteAllStats));
+    }
+
+    // 행 삭제 전후로 세대를 올리고 메모리는 마지막에 비움
+    // - 삭제 전에 시작한 조회/계산은 재확인에서 세대 변경을 보고 버리거나, 메모리에 넣은 값이 여기서 지워짐
+    private Integer evict(Predicate<Key> matches, Supplier<Integer> deleteRows) {
+        generation.incrementAndGet();
+        Integer deleted = writeTransaction.execute(status -> deleteRows.get());
+        generation.incrementAndGet();
+        entries.keySet().removeIf(matches);
+        return deleted;
+    }
+
+    private void save(Key key, Object value) {
+        try {
+            ClosedPeriodStat stat = ClosedPeriodStat.builder()
+                    .metric(key.metric())
+                    .vetId(key.vetId())
+                    .periodStart(key.start())
+                    .periodEnd(key.end())
+                    .payload(objectMapper.writeValueAsString(value))
+                    .build();
+            writeTransaction.executeWithoutResult(status -> closedPeriodStatRepository.save(stat));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 저장함 - 같은 값이므로 무시
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("통계 결과 직렬화 실패", e);
+        }
+    }
+
+    // 전체 병원 기준은 null 대신 ALL_VETS 로 저장 - 유니크 키가 중복을 막을 수 있도록
+    private static long scopeOf(Long vetId) {
+        return vetId == null ? ClosedPeriodStat.ALL_VETS : vetId;
+    }
+
+    private <T> T read(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 통계 결과를 읽을 수 없어 다시 계산합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record Key(String metric, long vetId, LocalDate start, LocalDate end) {
+    }
+}
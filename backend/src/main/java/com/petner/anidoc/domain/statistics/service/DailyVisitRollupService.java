@@ -0,0 +1,93 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.entity.DailyVisitRollup;
+import com.petner.anidoc.domain.statistics.repository.DailyVisitRollupRepository;
+import com.petner.anidoc.domain.user.pet.entity.Pet;
+import com.petner.anidoc.domain.vet.medicalrecord.entity.MedicalRecord;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ✅ DailyVisitRollupService
+ * - 진료기록 생성/삭제 시 daily_visit_rollup 을 증분 갱신
+ * - 기간별 방문 건수는 원본 스캔 대신 일별 집계 합계로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyVisitRollupService {
+
+    private final DailyVisitRollupRepository dailyVisitRollupRepository;
+    private final ClosedPeriodStatCache closedPeriodStatCache;
+
+    // 진료기록 생성 반영
+    @Transactional
+    public void increase(MedicalRecord medicalRecord) {
+        apply(medicalRecord, 1L);
+    }
+
+    // 진료기록 삭제(soft delete) 반영
+    @Transactional
+    public void decrease(MedicalRecord medicalRecord) {
+        apply(medicalRecord, -1L);
+    }
+
+    // 반려동물 삭제 반영 (연결된 진료기록이 함께 삭제됨)
+    @Transactional
+    public void removePet(Pet pet) {
+        pet.getMedicalRecords().stream()
+                .filter(medicalRecord -> !Boolean.TRUE.equals(medicalRecord.getIsDeleted()))
+                .forEach(this::decrease);
+    }
+
+    // 기간 내 방문 건수 (startDate 포함, endDate 미포함, vetId 가 null 이면 전체 병원)
+    @Transactional(readOnly = true)
+    public long sumVisits(LocalDate startDate, LocalDate endDate, Long vetId) {
+        return dailyVisitRollupRepository.sumVisitCount(startDate, endDate, vetId);
+    }
+
+    // 진료기록 원본으로 집계 테이블 재생성
+    @Transactional
+    public int rebuild() {
+        dailyVisitRollupRepository.deleteAllInBatch();
+
+        List<DailyVisitRollup> rollups = dailyVisitRollupRepository.aggregateFromMedicalRecords().stream()
+                .map(row -> DailyVisitRollup.builder()
+                        .visitDate((LocalDate) row[0])
+                        .vetId((Long) row[1])
+                        .species((String) row[2])
+                        .reservationType((ReservationType) row[3])
+                        .visitCount((Long) row[4])
+                        .build())
+                .toList();
+
+        dailyVisitRollupRepository.saveAll(rollups);
+        closedPeriodStatCache.invalidateAll();
+        log.info("일별 방문 집계 재생성 완료: {}건", rollups.size());
+        return rollups.size();
+    }
+
+    private void apply(MedicalRecord medicalRecord, long delta) {
+        LocalDate visitDate = medicalRecord.getCreatedAt().toLocalDate();
+        VetInfo vetInfo = medicalRecord.getDoctor().getVetInfo();
+        Long vetId = vetInfo != null ? vetInfo.getId() : null;
+        String species = medicalRecord.getPet().getSpecies();
+        ReservationType reservationType = medicalRecord.getReservation().getType();
+
+        // 지난 날짜의 변경(예: 예전 진료기록 삭제)이면 그 날짜가 포함된 종료 기간 통계를 다시 계산
+        closedPeriodStatCache.invalidate(visitDate, vetId);
+
+        dailyVisitRollupRepository.upsertVisitCount(visitDate,
+                vetId != null ? vetId : DailyVisitRollup.NO_VET_ID,
+                species != null ? species : DailyVisitRollup.NO_SPECIES,
+                reservationType.name(),
+                delta);
+    }
+}
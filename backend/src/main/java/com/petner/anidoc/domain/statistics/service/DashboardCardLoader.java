@@ -0,0 +1,129 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * ✅ DashboardCardLoader
+ * - 대시보드 상단 통계카드의 개별 카운트 조회를 실행
+ *   - 기본(직렬): 호출 스레드에서 순서대로 실행
+ *   - 병렬(statistics.dashboard.parallel=true): 가상 스레드에서 카드마다 읽기 전용 트랜잭션으로 동시에 실행하고,
+ *     카드별 제한 시간(statistics.dashboard.card-timeout-ms)을 넘긴 카드는 누락 처리 (값은 null)
+ * - 제한 시간을 넘긴 카드는 스레드를 인터럽트하고, 트랜잭션 타임아웃으로 실행 중인 쿼리도 DB 에서 취소됨
+ */
+@Slf4j
+@Component
+public class DashboardCardLoader {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 병렬 실행 시 카드마다 여는 트랜잭션 - 제한 시간이 쿼리 타임아웃으로 적용됨
+    private final TransactionOperations cardTransaction;
+    private final boolean parallel;
+    private final long cardTimeoutMs;
+
+    @Autowired
+    public DashboardCardLoader(PlatformTransactionManager transactionManager,
+                               @Value("${statistics.dashboard.parallel:false}") boolean parallel,
+                               @Value("${statistics.dashboard.card-timeout-ms:2000}") long cardTimeoutMs) {
+        this(cardTransaction(transactionManager, cardTimeoutMs), parallel, cardTimeoutMs);
+    }
+
+    DashboardCardLoader(TransactionOperations cardTransaction, boolean parallel, long cardTimeoutMs) {
+        this.cardTransaction = cardTransaction;
+        this.parallel = parallel;
+        this.cardTimeoutMs = cardTimeoutMs;
+    }
+
+    // 트랜잭션 타임아웃은 초 단위이므로 올림
+    private static TransactionTemplate cardTransaction(PlatformTransactionManager transactionManager, long cardTimeoutMs) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1L, (cardTimeoutMs + 999L) / 1000L));
+        return template;
+    }
+
+    // 카드 이름 -> 조회 함수 (입력 순서 유지)
+    public Cards load(LinkedHashMap<String, Supplier<?>> cards) {
+        return parallel ? loadParallel(cards) : loadSerial(cards);
+    }
+
+    private Cards loadSerial(Map<String, Supplier<?>> cards) {
+        Map<String, Object> values = new HashMap<>();
+        cards.forEach((name, supplier) -> values.put(name, supplier.get()));
+        return new Cards(values, List.of());
+    }
+
+    private Cards loadParallel(Map<String, Supplier<?>> cards) {
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        cards.forEach((name, supplier) ->
+                futures.put(name, executor.submit(() -> cardTransaction.execute(status -> supplier.get()))));
+
+        // 모든 카드가 같은 시점부터 제한 시간을 가지므로 전체 응답도 제한 시간 안에 끝남
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cardTimeoutMs);
+        Map<String, Object> values = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        futures.forEach((name, future) -> {
+            try {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                values.put(name, future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true); // 조회 중인 스레드 인터럽트 - 커넥션을 계속 잡고 있지 않도록
+                log.warn("대시보드 카드 조회 시간 초과: {} ({}ms)", name, cardTimeoutMs);
+                missing.add(name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                missing.add(name);
+            } catch (ExecutionException e) {
+                log.error("대시보드 카드 조회 실패: {}", name, e.getCause());
+                missing.add(name);
+            }
+        });
+
+        return new Cards(values, missing);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 카드별 조회 결과와 누락된 카드 목록
+    public record Cards(Map<String, Object> values, List<String> missing) {
+
+        // 누락된 카드는 0 이 아니라 null (응답에서 값 없음으로 표시)
+        public Integer getInt(String name) {
+            return (Integer) values.get(name);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(String name) {
+            return (T) values.get(name);
+        }
+
+        public boolean isComplete() {
+            return missing.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.dto.LiveDashboardDto;
+import com.petner.anidoc.domain.statistics.repository.StatisticsRepository;
+import com.petner.anidoc.domain.user.notification.service.SseEmitters;
+import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.user.user.entity.UserRole;
+import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import com.petner.anidoc.domain.vet.medicalrecord.entity.MedicalRecord;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
+import com.petner.anidoc.domain.vet.vaccination.entity.Vaccination;
+import com.petner.anidoc.global.ut.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * ✅ DashboardLiveCounters
+ * - 관리자 대시보드의 카운터(오늘 확정 예약, 승인 대기, 이번 주 진료, 이번 주 예방접종)를 병원별로 메모리에 유지
+ *   - 병원은 담당의 소속 병원 기준이며, vetId 가 null 인 카운터는 전체 병원 합계
+ *   - 병원이 정해지지 않은 승인 대기 예약은 모든 병원의 승인 대기에 포함
+ * - 예약/진료기록/예방접종 변경이 커밋되면 증감만 반영하고 해당 병원 관리자 SSE 로 "dashboard" 이벤트 전송
+ * - 날짜(주)가 바뀌거나 주기적인 재확인 시에만 DB 를 조회
+ *   - DB 를 읽는 동안 들어온 증감은 따로 모아 두었다가, 읽은 값에 이미 포함됐을 수 있으므로 다시 읽음
+ *     (재시도해도 계속 들어오면 증감을 더하지 않고 적재되지 않은 상태로 둠 - 깨끗하게 적재될 때까지 조회/변경마다 DB 값으로 응답)
+ * - 예방접종 담당의가 다른 병원 의료진으로 바뀌면 이전 병원에서 빼고 새 병원에 더함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardLiveCounters {
+
+    public static final String EVENT_NAME = "dashboard";
+
+    private static final String TODAY_RESERVATIONS = "todayTotalReservations";
+    private static final String PENDING_RESERVATIONS = "pendingReservations";
+    private static final String WEEKLY_TREATMENTS = "weeklyCompletedTreatments";
+    private static final String WEEKLY_VACCINATIONS = "recentVaccinations";
+
+    private static final int MAX_SEED_ATTEMPTS = 3;
+
+    private final StatisticsRepository statisticsRepository;
+    private final UserRepository userRepository;
+    private final SseEmitters sseEmitters;
+
+    // 한 번이라도 조회된 병원만 유지 (null 키 = 전체 병원), this 로 동기화
+    private final Map<Long, Partition> partitions = new HashMap<>();
+
+    // 현재 카운터 (최초 조회 또는 날짜가 바뀐 경우에만 DB 조회)
+    public LiveDashboardDto current(Long vetId) {
+        Partition partition;
+        synchronized (this) {
+            partition = partitions.computeIfAbsent(vetId, Partition::new);
+        }
+        seed(partition, false);
+        synchronized (this) {
+            return partition.toDto(Map.of());
+        }
+    }
+
+    // 예약 변경 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        ReservationSnapshot before = event.getBefore();
+        ReservationSnapshot after = event.getAfter();
+
+        apply(vetId -> {
+            Map<String, Integer> deltas = new LinkedHashMap<>();
+            addDelta(deltas, TODAY_RESERVATIONS,
+                    (isApprovedOn(after, today, vetId) ? 1 : 0) - (isApprovedOn(before, today, vetId) ? 1 : 0));
+            addDelta(deltas, PENDING_RESERVATIONS,
+                    (isPending(after, vetId) ? 1 : 0) - (isPending(before, vetId) ? 1 : 0));
+            return deltas;
+        });
+    }
+
+    // 진료기록 생성/삭제 - createdAt 이 이번 주일 때만 반영
+    public void treatmentChanged(MedicalRecord medicalRecord, int delta) {
+        weeklyChanged(WEEKLY_TREATMENTS, medicalRecord.getCreatedAt(), medicalRecord.getDoctor(), delta);
+    }
+
+    // 예방접종 등록/삭제 - createdAt 이 이번 주일 때만 반영
+    public void vaccinationChanged(Vaccination vaccination, int delta) {
+        weeklyChanged(WEEKLY_VACCINATIONS, vaccination.getCreatedAt(), vaccination.getDoctor(), delta);
+    }
+
+    // 예방접종 담당의 변경 - createdAt 이 이번 주일 때만 반영
+    public void vaccinationDoctorChanged(Vaccination vaccination, User previousDoctor) {
+        weeklyMoved(WEEKLY_VACCINATIONS, vaccination.getCreatedAt(), previousDoctor, vaccination.getDoctor());
+    }
+
+    // 증분 반영 중 누락이 있더라도 주기적으로 DB 기준 값으로 맞춤
+    @Scheduled(fixedDelayString = "${statistics.dashboard.live.reconcile-ms:600000}")
+    public void reconcile() {
+        List<Partition> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(partitions.values());
+        }
+        for (Partition partition : targets) {
+            LiveDashboardDto before;
+            synchronized (this) {
+                before = partition.toDto(Map.of());
+            }
+            seed(partition, true);
+            Push push = null;
+            synchronized (this) {
+                Map<String, Integer> deltas = new LinkedHashMap<>();
+                addDelta(deltas, TODAY_RESERVATIONS, partition.todayReservations - before.getTodayTotalReservations());
+                addDelta(deltas, PENDING_RESERVATIONS, partition.pendingReservations - before.getPendingReservations());
+                addDelta(deltas, WEEKLY_TREATMENTS, partition.weeklyTreatments - before.getWeeklyCompletedTreatments());
+                addDelta(deltas, WEEKLY_VACCINATIONS, partition.weeklyVaccinations - before.getRecentVaccinations());
+                if (!deltas.isEmpty()) {
+                    log.info("대시보드 실시간 카운터 보정 (병원 {}): {}", partition.vetId, deltas);
+                    push = new Push(partition.adminIds, partition.toDto(deltas));
+                }
+            }
+            if (push != null) {
+                push(push);
+            }
+        }
+    }
+
+    private void weeklyChanged(String counter, LocalDateTime createdAt, User doctor, int delta) {
+        if (createdAt == null || !isThisWeek(createdAt.toLocalDate())) {
+            return;
+        }
+        Long recordVetId = vetIdOf(doctor);
+        TransactionUtil.afterCommit(() -> apply(vetId ->
+                vetId == null || vetId.equals(recordVetId) ? Map.of(counter, delta) : Map.of()));
+    }
+
+    // 담당의가 바뀐 기록 - 병원이 달라졌을 때만 이전 병원 -1, 새 병원 +1 (전체 합계는 그대로)
+    private void weeklyMoved(String counter, LocalDateTime createdAt, User previousDoctor, User doctor) {
+        if (createdAt == null || !isThisWeek(createdAt.toLocalDate())) {
+            return;
+        }
+        Long previousVetId = vetIdOf(previousDoctor);
+        Long recordVetId = vetIdOf(doctor);
+        if (Objects.equals(previousVetId, recordVetId)) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> apply(vetId -> {
+            if (vetId == null) {
+                return Map.of();
+            }
+            if (vetId.equals(previousVetId)) {
+                return Map.of(counter, -1);
+            }
+            return vetId.equals(recordVetId) ? Map.of(counter, 1) : Map.of();
+        }));
+    }
+
+    private static Long vetIdOf(User doctor) {
+        return doctor != null && doctor.getVetInfo() != null ? doctor.getVetInfo().getId() : null;
+    }
+
+    // deltasFor: 병원(vetId)별로 반영할 증감
+    private void apply(Function<Long, Map<String, Integer>> deltasFor) {
+        List<Push> pushes = new ArrayList<>();
+        List<Partition> stale = new ArrayList<>();
+        synchronized (this) {
+            for (Partition partition : partitions.values()) {
+                Map<String, Integer> deltas = deltasFor.apply(partition.vetId);
+                if (deltas.isEmpty()) {
+                    continue;
+                }
+                if (partition.journal != null) {
+                    deltas.forEach((counter, delta) -> partition.journal.merge(counter, delta, Integer::sum)); // 적재 중
+                } else if (!LocalDate.now().equals(partition.seededDate)) {
+                    stale.add(partition); // 날짜가 바뀌었으면 이번 변경까지 포함된 값을 새로 읽음
+                } else {
+                    partition.add(deltas);
+                    pushes.add(new Push(partition.adminIds, partition.toDto(deltas)));
+                }
+            }
+        }
+        pushes.forEach(this::push);
+        for (Partition partition : stale) {
+            seed(partition, false);
+            Push push;
+            synchronized (this) {
+                push = new Push(partition.adminIds, partition.toDto(Map.of()));
+            }
+            push(push);
+        }
+    }
+
+    private void push(Push push) {
+        for (Long adminId : push.adminIds()) {
+            sseEmitters.noti(adminId, EVENT_NAME, push.dto());
+        }
+    }
+
+    // DB 에서 카운터 적재 - this 잠금 밖에서 호출 (같은 병원 적재는 partition 으로 한 번에 하나)
+    // force 가 false 면 오늘 이미 적재된 병원은 건너뜀
+    // 마지막 시도에도 증감이 들어왔으면 읽은 값만 두고 적재되지 않은 상태로 둠
+    // (증감을 더하면 읽은 값에 이미 포함된 변경이 두 번 반영될 수 있음 - 다음 조회/변경 때 다시 적재)
+    private void seed(Partition partition, boolean force) {
+        synchronized (partition) {
+            LocalDate today = LocalDate.now();
+            if (!force && today.equals(partition.seededDate)) {
+                return;
+            }
+            for (int attempt = 1; ; attempt++) {
+                synchronized (this) {
+                    partition.journal = new HashMap<>();
+                }
+                Seed seed = read(partition.vetId, today);
+                synchronized (this) {
+                    // 읽는 동안 들어온 증감은 읽은 값에 포함됐을 수 있음 - 다시 읽음
+                    boolean clean = partition.journal.isEmpty();
+                    if (!clean && attempt < MAX_SEED_ATTEMPTS) {
+                        continue;
+                    }
+                    partition.todayReservations = seed.todayReservations();
+                    partition.pendingReservations = seed.pendingReservations();
+                    partition.weeklyTreatments = seed.weeklyTreatments();
+                    partition.weeklyVaccinations = seed.weeklyVaccinations();
+                    partition.adminIds = seed.adminIds();
+                    partition.journal = null;
+                    partition.seededDate = clean ? today : null;
+                    if (!clean) {
+                        log.warn("대시보드 실시간 카운터 적재 중 변경이 계속 들어와 DB 값으로 응답합니다 (병원 {})", partition.vetId);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    private Seed read(Long vetId, LocalDate today) {
+        LocalDateTime weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        LocalDateTime weekEnd = weekStart.toLocalDate().plusDays(6).atTime(23, 59, 59);
+        return new Seed(
+                statisticsRepository.countApprovedReservations(today, vetId),
+                statisticsRepository.countPendingReservations(vetId),
+                statisticsRepository.countTreatments(weekStart, weekEnd, vetId),
+                statisticsRepository.countVaccinations(weekStart, weekEnd, vetId),
+                userRepository.findIdsByRoleAndVetId(UserRole.ROLE_ADMIN, vetId));
+    }
+
+    private void addDelta(Map<String, Integer> deltas, String counter, int delta) {
+        if (delta != 0) {
+            deltas.put(counter, delta);
+        }
+    }
+
+    private boolean isApprovedOn(ReservationSnapshot snapshot, LocalDate date, Long vetId) {
+        return snapshot != null && snapshot.getStatus() == ReservationStatus.APPROVED
+                && date.equals(snapshot.getReservationDate())
+                && (vetId == null || vetId.equals(snapshot.getVetId()));
+    }
+
+    // 병원이 정해지지 않은 승인 대기 예약은 모든 병원에 포함
+    private boolean isPending(ReservationSnapshot snapshot, Long vetId) {
+        return snapshot != null && snapshot.getStatus() == ReservationStatus.PENDING
+                && (vetId == null || snapshot.getVetId() == null || vetId.equals(snapshot.getVetId()));
+    }
+
+    private boolean isThisWeek(LocalDate date) {
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return !date.isBefore(monday) && date.isBefore(monday.plusWeeks(1));
+    }
+
+    // 병원별 카운터 (DashboardLiveCounters 로 동기화)
+    private static final class Partition {
+        private final Long vetId;
+        private LocalDate seededDate; // null 이면 적재 전이거나 깨끗하게 적재되지 않음
+        private int todayReservations;
+        private int pendingReservations;
+        private int weeklyTreatments;
+        private int weeklyVaccinations;
+        private List<Long> adminIds = List.of();
+        private Map<String, Integer> journal; // 적재 중이면 그동안 들어온 증감, 아니면 null
+
+        private Partition(Long vetId) {
+            this.vetId = vetId;
+        }
+
+        private void add(Map<String, Integer> deltas) {
+            todayReservations += deltas.getOrDefault(TODAY_RESERVATIONS, 0);
+            pendingReservations += deltas.getOrDefault(PENDING_RESERVATIONS, 0);
+            weeklyTreatments += deltas.getOrDefault(WEEKLY_TREATMENTS, 0);
+            weeklyVaccinations += deltas.getOrDefault(WEEKLY_VACCINATIONS, 0);
+        }
+
+        private LiveDashboardDto toDto(Map<String, Integer> deltas) {
+            return LiveDashboardDto.builder()
+                    .todayTotalReservations(todayReservations)
+                    .pendingReservations(pendingReservations)
+                    .weeklyCompletedTreatments(weeklyTreatments)
+                    .recentVaccinations(weeklyVaccinations)
+                    .deltas(deltas)
+                    .build();
+        }
+    }
+
+    private record Push(List<Long> adminIds, LiveDashboardDto dto) {
+    }
+
+    private record Seed(int todayReservations, int pendingReservations, int weeklyTreatments,
+                        int weeklyVaccinations, List<Long> adminIds) {
+    }
+}
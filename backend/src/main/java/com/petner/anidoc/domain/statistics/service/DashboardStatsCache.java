@@ -0,0 +1,185 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.dto.DashboardCacheStatsDto;
+import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
+import com.petner.anidoc.global.ut.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ✅ DashboardStatsCache
+ * - 대시보드 상단 통계카드를 역할/사용자 단위로 메모리에 캐시
+ *   - ADMIN:{vetId}: 병원별 관리자 카드 (ADMIN:ALL 은 전체 병원)
+ *   - STAFF:{id}: 의료진별 카드
+ *   - USER:{id}: 보호자별 카드
+ * - 예약/진료기록/예방접종/반려동물 변경이 커밋되면 영향받는 키만 무효화
+ * - 카드 값에 "오늘/이번 주" 기준이 포함되므로 날짜가 바뀌면 자동으로 만료
+ */
+@Slf4j
+@Component
+public class DashboardStatsCache {
+
+    private static final String ADMIN_PREFIX = "ADMIN:";
+    private static final String ALL_VETS = "ALL";
+    private static final String STAFF_PREFIX = "STAFF:";
+    private static final String USER_PREFIX = "USER:";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가 - 조회 도중 무효화된 값이 캐시에 남지 않도록 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // cacheable: 일부 카드가 누락된 결과처럼 캐시하면 안 되는 값을 걸러냄
+    public <T> T getAdminStats(Long vetId, Supplier<T> loader, Predicate<T> cacheable) {
+        return get(adminKey(vetId), loader, cacheable);
+    }
+
+    public <T> T getStaffStats(Long staffId, Supplier<T> loader, Predicate<T> cacheable) {
+        return get(STAFF_PREFIX + staffId, loader, cacheable);
+    }
+
+    public <T> T getUserStats(Long userId, Supplier<T> loader, Predicate<T> cacheable) {
+        return get(USER_PREFIX + userId, loader, cacheable);
+    }
+
+    // 진료기록/예방접종 변경: 담당의 소속 병원과 전체 병원 관리자, 담당의, 보호자 카드
+    public void evictTreatment(Long ownerId, User doctor) {
+        Long vetId = doctor.getVetInfo() != null ? doctor.getVetInfo().getId() : null;
+        Long doctorId = doctor.getId();
+        TransactionUtil.afterCommit(() -> {
+            generation.incrementAndGet();
+            evictAdmin(vetId);
+            evictStaff(doctorId);
+            evictUser(ownerId);
+        });
+    }
+
+    // 반려동물 등록/삭제: 전체 병원 관리자(전체 반려동물 수), 보호자 카드
+    public void evictPet(Long ownerId) {
+        TransactionUtil.afterCommit(() -> {
+            generation.incrementAndGet();
+            evict(adminKey(null));
+            evictUser(ownerId);
+        });
+    }
+
+    // 예약 변경 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        generation.incrementAndGet();
+
+        // 승인 대기 건수는 모든 카드에 공통으로 노출되므로 전체 무효화
+        if (isPendingCountChanged(event.getBefore(), event.getAfter())) {
+            evictAll();
+            return;
+        }
+
+        for (ReservationSnapshot snapshot : new ReservationSnapshot[]{event.getBefore(), event.getAfter()}) {
+            if (snapshot != null) {
+                evictAdmin(snapshot.getVetId());
+                evictStaff(snapshot.getDoctorId());
+                evictUser(snapshot.getUserId());
+            }
+        }
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        evictions.add(entries.size());
+        entries.clear();
+    }
+
+    public DashboardCacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        return DashboardCacheStatsDto.builder()
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.sum())
+                .size(entries.size())
+                .hitRate(total == 0 ? 0.0 : (double) hitCount * 100 / total)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Supplier<T> loader, Predicate<T> cacheable) {
+        LocalDate today = LocalDate.now();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.date().equals(today)) {
+            hits.increment();
+            return (T) cached.value();
+        }
+
+        misses.increment();
+        long loadedGeneration = generation.get();
+        T value = loader.get();
+        if (!cacheable.test(value)) {
+            return value;
+        }
+
+        Entry entry = new Entry(value, today);
+        entries.put(key, entry);
+        // 조회하는 동안 무효화가 있었다면 이전 데이터일 수 있으므로 버림
+        if (generation.get() != loadedGeneration) {
+            entries.remove(key, entry);
+        }
+        return value;
+    }
+
+    private boolean isPendingCountChanged(ReservationSnapshot before, ReservationSnapshot after) {
+        boolean wasPending = before != null && before.getStatus() == ReservationStatus.PENDING;
+        boolean isPending = after != null && after.getStatus() == ReservationStatus.PENDING;
+        return wasPending != isPending;
+    }
+
+    // 해당 병원과 전체 병원 관리자 카드
+    private void evictAdmin(Long vetId) {
+        evict(adminKey(null));
+        if (vetId != null) {
+            evict(adminKey(vetId));
+        }
+    }
+
+    private String adminKey(Long vetId) {
+        return ADMIN_PREFIX + (vetId != null ? vetId : ALL_VETS);
+    }
+
+    private void evictStaff(Long staffId) {
+        if (staffId != null) {
+            evict(STAFF_PREFIX + staffId);
+        }
+    }
+
+    private void evictUser(Long userId) {
+        if (userId != null) {
+            evict(USER_PREFIX + userId);
+        }
+    }
+
+    private void evict(String key) {
+        if (entries.remove(key) != null) {
+            evictions.increment();
+        }
+    }
+
+    private record Entry(Object value, LocalDate date) {
+    }
+}
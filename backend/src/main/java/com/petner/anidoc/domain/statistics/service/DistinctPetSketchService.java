@@ -0,0 +1,250 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.dto.UniquePetsDto;
+import com.petner.anidoc.domain.statistics.entity.DistinctPetSketch;
+import com.petner.anidoc.domain.statistics.entity.SketchScope;
+import com.petner.anidoc.domain.statistics.repository.DistinctPetSketchRepository;
+import com.petner.anidoc.domain.statistics.repository.StatisticsRepository;
+import com.petner.anidoc.domain.statistics.util.HyperLogLog;
+import com.petner.anidoc.domain.vet.medicalrecord.entity.MedicalRecord;
+import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
+import com.petner.anidoc.global.ut.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * ✅ DistinctPetSketchService
+ * - 담당의/병원별, 전체/월별 "진료한 고유 반려동물 수"를 HyperLogLog 스케치로 유지
+ * - 진료기록이 생성되면 커밋 이후 메모리의 스케치에 반영하고, 바뀐 스케치만 주기적으로 테이블에 저장
+ *   (저장된 레지스터와 레지스터별 최댓값으로 합쳐서 저장 - 인스턴스가 여러 개여도 서로의 반영분이 사라지지 않음)
+ * - 재시작 시 테이블에서 읽은 뒤 마지막 저장 이후의 진료기록을 다시 반영 (같은 값을 다시 넣어도 결과는 같음)
+ * - 스케치는 값을 뺄 수 없으므로 삭제된 진료기록은 rebuild 전까지 추정치에 남음 → 감사용은 exact 조회 사용
+ */
+@Slf4j
+@Service
+public class DistinctPetSketchService {
+
+    // 저장 직전에 커밋된 진료기록이 빠지지 않도록 재반영 시작 시각을 여유 있게 당김
+    private static final long REPLAY_MARGIN_MINUTES = 5;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final DistinctPetSketchRepository distinctPetSketchRepository;
+    private final StatisticsRepository statisticsRepository;
+    // 스케치 하나씩 별도 트랜잭션에서 저장 (하나가 실패해도 나머지는 저장됨)
+    private final TransactionTemplate writeTransaction;
+
+    private final Map<SketchKey, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Set<SketchKey> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    public DistinctPetSketchService(DistinctPetSketchRepository distinctPetSketchRepository,
+                                    StatisticsRepository statisticsRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.distinctPetSketchRepository = distinctPetSketchRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 진료기록 생성 반영 (커밋 이후)
+    public void add(MedicalRecord medicalRecord) {
+        Long doctorId = medicalRecord.getDoctor().getId();
+        VetInfo vetInfo = medicalRecord.getDoctor().getVetInfo();
+        Long vetId = vetInfo != null ? vetInfo.getId() : null;
+        Long petId = medicalRecord.getPet().getId();
+        LocalDateTime createdAt = medicalRecord.getCreatedAt();
+
+        TransactionUtil.afterCommit(() -> add(doctorId, vetId, petId, createdAt));
+    }
+
+    // 추정치 조회 - from/to 가 없으면 전체 기간, 있으면 월별 스케치를 합쳐서 계산 (to 포함)
+    public UniquePetsDto estimate(SketchScope scope, Long scopeId, YearMonth from, YearMonth to) {
+        validateRange(from, to);
+
+        long count;
+        if (from == null) {
+            count = estimate(new SketchKey(scope, scopeId, DistinctPetSketch.ALL_PERIOD));
+        } else {
+            HyperLogLog union = new HyperLogLog();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                HyperLogLog sketch = sketches.get(new SketchKey(scope, scopeId, month.toString()));
+                if (sketch != null) {
+                    synchronized (sketch) {
+                        union.merge(sketch);
+                    }
+                }
+            }
+            count = union.estimate();
+        }
+        return new UniquePetsDto(scope, scopeId, from, to, count, false);
+    }
+
+    // 정확한 값 (감사용) - COUNT(DISTINCT) 로 직접 조회
+    @Transactional(readOnly = true)
+    public UniquePetsDto countExact(SketchScope scope, Long scopeId, YearMonth from, YearMonth to) {
+        validateRange(from, to);
+
+        LocalDateTime start = from != null ? from.atDay(1).atStartOfDay() : BEGINNING;
+        LocalDateTime end = to != null ? to.plusMonths(1).atDay(1).atStartOfDay() : LocalDateTime.now().plusDays(1);
+
+        long count = switch (scope) {
+            case DOCTOR -> statisticsRepository.countDistinctPetsByDoctor(scopeId, start, end);
+            case VET -> statisticsRepository.countDistinctPetsByVet(scopeId, start, end);
+        };
+        return new UniquePetsDto(scope, scopeId, from, to, count, true);
+    }
+
+    // 전체 기간 추정치 (대시보드 카드용)
+    public int estimateAll(SketchScope scope, Long scopeId) {
+        return (int) estimate(new SketchKey(scope, scopeId, DistinctPetSketch.ALL_PERIOD));
+    }
+
+    // 저장된 스케치를 읽고, 없으면 진료기록 전체로 생성
+    @Transactional
+    public void load() {
+        LocalDateTime since = distinctPetSketchRepository.findLastSavedAt()
+                .map(savedAt -> savedAt.minusMinutes(REPLAY_MARGIN_MINUTES))
+                .orElse(BEGINNING);
+
+        for (DistinctPetSketch entity : distinctPetSketchRepository.findAll()) {
+            sketches.put(new SketchKey(entity.getScope(), entity.getScopeId(), entity.getPeriodKey()),
+                    HyperLogLog.fromBytes(entity.getRegisters()));
+        }
+
+        int replayed = replaySince(since);
+        flush();
+        log.info("고유 반려동물 스케치 로드 완료: 스케치 {}개, 재반영 진료기록 {}건", sketches.size(), replayed);
+    }
+
+    // 진료기록 원본으로 다시 생성 (삭제된 진료기록 제외)
+    @Transactional
+    public void rebuild() {
+        sketches.clear();
+        dirtyKeys.clear();
+        distinctPetSketchRepository.deleteAllInBatch();
+
+        int replayed = replaySince(BEGINNING);
+        flush();
+        log.info("고유 반려동물 스케치 재생성 완료: 스케치 {}개, 진료기록 {}건", sketches.size(), replayed);
+    }
+
+    // 바뀐 스케치만 저장 - 실패한 스케치는 다음 주기에 다시 저장
+    @Scheduled(fixedDelayString = "${statistics.distinct-pets.flush-ms:60000}")
+    public void flush() {
+        for (SketchKey key : dirtyKeys) {
+            dirtyKeys.remove(key); // 저장 도중 다시 바뀌면 다음 주기에 저장됨
+            HyperLogLog sketch = sketches.get(key);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                writeTransaction.executeWithoutResult(status -> save(key, sketch));
+            } catch (RuntimeException e) {
+                dirtyKeys.add(key);
+                log.warn("고유 반려동물 스케치 저장 실패 ({}), 다음 주기에 다시 저장: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    // 저장된 레지스터를 메모리 스케치에 합친 뒤 저장 (다른 인스턴스가 반영한 값도 메모리에 들어옴)
+    private void save(SketchKey key, HyperLogLog sketch) {
+        DistinctPetSketch entity = distinctPetSketchRepository
+                .findForUpdate(key.scope(), key.scopeId(), key.periodKey())
+                .orElse(null);
+        byte[] registers;
+        synchronized (sketch) {
+            if (entity != null) {
+                sketch.merge(HyperLogLog.fromBytes(entity.getRegisters()));
+            }
+            registers = sketch.toBytes();
+        }
+
+        if (entity == null) {
+            distinctPetSketchRepository.save(DistinctPetSketch.builder()
+                    .scope(key.scope())
+                    .scopeId(key.scopeId())
+                    .periodKey(key.periodKey())
+                    .registers(registers)
+                    .build());
+        } else {
+            entity.updateRegisters(registers);
+            distinctPetSketchRepository.save(entity);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("종료 중 고유 반려동물 스케치 저장 실패 (다음 기동 시 진료기록으로 다시 반영됨): {}", e.getMessage());
+        }
+    }
+
+    private int replaySince(LocalDateTime since) {
+        int count = 0;
+        try (Stream<Object[]> rows = statisticsRepository.streamTreatedPetsSince(since)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                add((Long) row[0], (Long) row[1], (Long) row[2], (LocalDateTime) row[3]);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void add(Long doctorId, Long vetId, Long petId, LocalDateTime createdAt) {
+        String month = YearMonth.from(createdAt).toString();
+
+        add(new SketchKey(SketchScope.DOCTOR, doctorId, DistinctPetSketch.ALL_PERIOD), petId);
+        add(new SketchKey(SketchScope.DOCTOR, doctorId, month), petId);
+        if (vetId != null) {
+            add(new SketchKey(SketchScope.VET, vetId, DistinctPetSketch.ALL_PERIOD), petId);
+            add(new SketchKey(SketchScope.VET, vetId, month), petId);
+        }
+    }
+
+    private void add(SketchKey key, Long petId) {
+        HyperLogLog sketch = sketches.computeIfAbsent(key, k -> new HyperLogLog());
+        boolean changed;
+        synchronized (sketch) {
+            changed = sketch.add(petId);
+        }
+        if (changed) {
+            dirtyKeys.add(key);
+        }
+    }
+
+    private long estimate(SketchKey key) {
+        HyperLogLog sketch = sketches.get(key);
+        if (sketch == null) {
+            return 0L;
+        }
+        synchronized (sketch) {
+            return sketch.estimate();
+        }
+    }
+
+    private void validateRange(YearMonth from, YearMonth to) {
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("조회 시작월과 종료월은 함께 입력해야 합니다.");
+        }
+        if (from != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작월은 종료월보다 이후일 수 없습니다.");
+        }
+    }
+
+    private record SketchKey(SketchScope scope, Long scopeId, String periodKey) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.dto.SlotHeatmapDto;
+import com.petner.anidoc.domain.statistics.entity.SlotHeatmapCell;
+import com.petner.anidoc.domain.statistics.repository.SlotHeatmapCellRepository;
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ SlotHeatmapService
+ * - 병원/월별 요일 × 예약 시간대(16개) 수요 행렬을 slot_heatmap_cell 에 유지
+ * - 예약 생성/수정/상태 변경/취소 이벤트를 같은 트랜잭션에서 반영 (변경 전 -1, 변경 후 +1)
+ * - 조회는 집계 테이블만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotHeatmapService {
+
+    private static final int DAYS = 7;
+    private static final int SLOTS = Reservation.RESERVATION_TIMES.size();
+
+    private final SlotHeatmapCellRepository slotHeatmapCellRepository;
+
+    // 예약 변경 반영 (예약 트랜잭션 안에서 실행되어 함께 커밋/롤백됨)
+    @EventListener
+    @Transactional
+    public void onReservationChanged(ReservationChangedEvent event) {
+        Map<CellKey, long[]> deltas = new HashMap<>();
+        collect(deltas, event.getBefore(), -1L);
+        collect(deltas, event.getAfter(), 1L);
+
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0 || delta[2] != 0) {
+                apply(key, delta[0], delta[1], delta[2]);
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public SlotHeatmapDto getHeatmap(YearMonth month, Long vetId) {
+        long[][] requested = new long[DAYS][SLOTS];
+        long[][] approved = new long[DAYS][SLOTS];
+        long[][] rejected = new long[DAYS][SLOTS];
+
+        for (Object[] row : slotHeatmapCellRepository.sumByMonth(month.toString(), vetId)) {
+            int day = (Integer) row[0] - 1;
+            int slot = (Integer) row[1];
+            requested[day][slot] = ((Number) row[2]).longValue();
+            approved[day][slot] = ((Number) row[3]).longValue();
+            rejected[day][slot] = ((Number) row[4]).longValue();
+        }
+
+        return new SlotHeatmapDto(month, vetId, Reservation.RESERVATION_TIMES, requested, approved, rejected);
+    }
+
+    // 예약 원본으로 집계 테이블 재생성
+    @Transactional
+    public int rebuild() {
+        slotHeatmapCellRepository.deleteAllInBatch();
+
+        Map<CellKey, long[]> cells = new HashMap<>();
+        for (Object[] row : slotHeatmapCellRepository.aggregateFromReservations()) {
+            CellKey key = CellKey.of((LocalDate) row[0], (LocalTime) row[1], (Long) row[2]);
+            if (key != null) {
+                addTo(cells, key, (ReservationStatus) row[3], (Long) row[4]);
+            }
+        }
+
+        List<SlotHeatmapCell> entities = new ArrayList<>();
+        cells.forEach((key, counts) -> entities.add(toEntity(key, counts[0], counts[1], counts[2])));
+        slotHeatmapCellRepository.saveAll(entities);
+
+        log.info("시간대 수요 집계 재생성 완료: {}건", entities.size());
+        return entities.size();
+    }
+
+    private void collect(Map<CellKey, long[]> deltas, ReservationSnapshot snapshot, long sign) {
+        if (snapshot == null) {
+            return;
+        }
+        CellKey key = CellKey.of(snapshot.getReservationDate(), snapshot.getReservationTime(), snapshot.getVetId());
+        if (key != null) {
+            addTo(deltas, key, snapshot.getStatus(), sign);
+        }
+    }
+
+    private void addTo(Map<CellKey, long[]> cells, CellKey key, ReservationStatus status, long count) {
+        long[] counts = cells.computeIfAbsent(key, k -> new long[3]);
+        counts[0] += count;
+        if (status == ReservationStatus.APPROVED) {
+            counts[1] += count;
+        } else if (status == ReservationStatus.REJECTED) {
+            counts[2] += count;
+        }
+    }
+
+    private void apply(CellKey key, long requested, long approved, long rejected) {
+        List<Long> ids = slotHeatmapCellRepository.findIdsByKey(key.vetId(), key.periodMonth(), key.dayOfWeek(), key.slotIndex());
+
+        if (!ids.isEmpty()) {
+            slotHeatmapCellRepository.addCounts(ids.get(0), requested, approved, rejected);
+            return;
+        }
+
+        slotHeatmapCellRepository.save(toEntity(key, requested, approved, rejected));
+    }
+
+    private SlotHeatmapCell toEntity(CellKey key, long requested, long approved, long rejected) {
+        return SlotHeatmapCell.builder()
+                .vetId(key.vetId())
+                .periodMonth(key.periodMonth())
+                .dayOfWeek(key.dayOfWeek())
+                .slotIndex(key.slotIndex())
+                .requestedCount(requested)
+                .approvedCount(approved)
+                .rejectedCount(rejected)
+                .build();
+    }
+
+    private record CellKey(Long vetId, String periodMonth, Integer dayOfWeek, Integer slotIndex) {
+
+        // 예약 시간이 정해진 시간대가 아니면 null
+        static CellKey of(LocalDate date, LocalTime time, Long vetId) {
+            int slotIndex = Reservation.RESERVATION_TIMES.indexOf(time);
+            if (date == null || slotIndex < 0) {
+                return null;
+            }
+            return new CellKey(vetId, YearMonth.from(date).toString(), date.getDayOfWeek().getValue(), slotIndex);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.petner.anidoc.domain.statistics.dto.SeriesBucket;
+import com.petner.anidoc.domain.statistics.dto.SeriesDto;
+import com.petner.anidoc.domain.statistics.dto.SeriesMetric;
+import com.petner.anidoc.domain.statistics.dto.SeriesPointDto;
+import com.petner.anidoc.domain.statistics.repository.DailyVisitRollupRepository;
+import com.petner.anidoc.domain.statistics.repository.StatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ✅ StatisticsSeriesService
+ * - 임의 기간 [from, to) 의 지표를 일/주/월 구간별 건수로 계산
+ * - 일자별 GROUP BY 한 번으로 조회한 결과를 일자 순서대로 흘려보내며 구간 단위로 합산
+ *   (빈 구간은 0건으로 채움)
+ * - 목록 응답은 구간 수를 제한하고, 긴 기간은 stream 으로 한 구간씩 내보냄
+ * - vetId 가 있으면 해당 병원(담당의 소속 병원) 기준, null 이면 전체 병원
+ */
+@Service
+@RequiredArgsConstructor
+public class StatisticsSeriesService {
+
+    // 목록(JSON) 응답으로 한 번에 돌려주는 최대 구간 수 - 넘으면 NDJSON 스트리밍 사용
+    public static final int MAX_LIST_POINTS = 400;
+    private static final int MAX_RANGE_YEARS = 10;
+
+    private final StatisticsRepository statisticsRepository;
+    private final DailyVisitRollupRepository dailyVisitRollupRepository;
+
+    @Transactional(readOnly = true)
+    public SeriesDto getSeries(SeriesMetric metric, SeriesBucket bucket, LocalDate from, LocalDate to, Long vetId) {
+        validateRange(from, to);
+        if (bucket.countBuckets(from, to) > MAX_LIST_POINTS) {
+            throw new IllegalArgumentException("구간 수가 " + MAX_LIST_POINTS
+                    + "개를 넘습니다. 더 큰 구간 단위를 쓰거나 application/x-ndjson 으로 요청하세요.");
+        }
+
+        List<SeriesPointDto> points = new ArrayList<>();
+        stream(metric, bucket, from, to, vetId, points::add);
+        return new SeriesDto(metric, bucket, from, to, points);
+    }
+
+    // 구간이 계산될 때마다 sink 로 전달 (전체 결과를 메모리에 모으지 않음)
+    // 응답을 쓰기 시작한 뒤에는 오류를 돌려줄 수 없으므로 validateRange 를 먼저 호출해야 함
+    @Transactional(readOnly = true)
+    public void streamSeries(SeriesMetric metric, SeriesBucket bucket, LocalDate from, LocalDate to, Long vetId,
+                             Consumer<SeriesPointDto> sink) {
+        stream(metric, bucket, from, to, vetId, sink);
+    }
+
+    private void stream(SeriesMetric metric, SeriesBucket bucket, LocalDate from, LocalDate to, Long vetId,
+                        Consumer<SeriesPointDto> sink) {
+        try (Stream<Object[]> rows = dailyCounts(metric, from, to, vetId)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            Object[] row = iterator.hasNext() ? iterator.next() : null;
+
+            for (LocalDate bucketStart = bucket.truncate(from); bucketStart.isBefore(to); bucketStart = bucket.next(bucketStart)) {
+                LocalDate start = bucketStart.isBefore(from) ? from : bucketStart;
+                LocalDate next = bucket.next(bucketStart);
+                LocalDate end = next.isAfter(to) ? to : next;
+
+                long count = 0L;
+                while (row != null && ((LocalDate) row[0]).isBefore(end)) {
+                    count += ((Number) row[1]).longValue();
+                    row = iterator.hasNext() ? iterator.next() : null;
+                }
+                sink.accept(new SeriesPointDto(start, end, count));
+            }
+        }
+    }
+
+    // (일자, 건수) 일자 오름차순
+    private Stream<Object[]> dailyCounts(SeriesMetric metric, LocalDate from, LocalDate to, Long vetId) {
+        return switch (metric) {
+            case VISITS -> dailyVisitRollupRepository.streamDailyVisitCounts(from, to, vetId);
+            case RESERVATIONS -> statisticsRepository.streamDailyReservationCounts(from, to, vetId);
+            case VACCINATIONS -> statisticsRepository.streamDailyVaccinationCounts(from, to, vetId);
+        };
+    }
+
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 이전이어야 합니다.");
+        }
+        if (from.plusYears(MAX_RANGE_YEARS).isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_YEARS + "년까지 가능합니다.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.petner.anidoc.domain.statistics.service;
 
 import com.petner.anidoc.domain.statistics.dto.*;
+import com.petner.anidoc.domain.statistics.entity.SketchScope;
 import com.petner.anidoc.domain.statistics.repository.StatisticsRepository;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
 import com.petner.anidoc.domain.user.user.entity.User;
@@ -10,6 +11,7 @@ import com.petner.anidoc.domain.vet.medicalrecord.repository.MedicalRecordReposi
 import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
 import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
 import com.petner.anidoc.domain.vet.vaccination.repository.VaccinationRepository;
+import com.petner.anidoc.global.security.SecurityUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,13 +20,21 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
+    private final DailyVisitRollupService dailyVisitRollupService;
+    private final ClosedPeriodStatCache closedPeriodStatCache;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardCardLoader dashboardCardLoader;
+    private final DashboardLiveCounters dashboardLiveCounters;
+    private final DistinctPetSketchService distinctPetSketchService;
     //추가
     private final PetRepository petRepository;
     private final ReservationRepository reservationRepository;
@@ -32,9 +42,12 @@ public class StatisticsService {
     private final UserRepository userRepository;
     private final VaccinationRepository vaccineRepository;
 
-    //전주 방문자 통계
+    private static final String DOG = "강아지";
+    private static final String CAT = "고양이";
+
+    //전주 방문자 통계 (vetId 가 null 이면 전체 병원)
     @Transactional
-    public WeeklyStatisticsDto getLastWeekWeekStatistics(){
+    public WeeklyStatisticsDto getLastWeekWeekStatistics(Long vetId){
         LocalDateTime now = LocalDateTime.now();
 
         //이번 주 월요일 0시
@@ -44,7 +57,7 @@ public class StatisticsService {
         //지난 주 월요일 0시
         LocalDateTime start = end.minusWeeks(1);
 
-        Long visitCount = statisticsRepository.countLastWeekVisits(start, end);
+        Long visitCount = closedPeriodVisits(start.toLocalDate(), end.toLocalDate(), vetId);
 
         String period ="지난 주: " + start.format(DateTimeFormatter.ofPattern("MM월 dd일"))
                 + " ~ " + end.format(DateTimeFormatter.ofPattern("MM월 dd일"));
@@ -54,7 +67,7 @@ public class StatisticsService {
 
     //전월 방문자 통계
     @Transactional
-    public MonthlyStatisticsDto getLastMonthWeekStatistics(){
+    public MonthlyStatisticsDto getLastMonthWeekStatistics(Long vetId){
         LocalDateTime now = LocalDateTime.now();
 
         //이번 달 1일 0시 0분
@@ -63,7 +76,7 @@ public class StatisticsService {
         //지난 달 1일 0시 0분
         LocalDateTime start = end.minusMonths(1);
 
-        Long visitCount = statisticsRepository.countLastMonthVisits(start, end);
+        Long visitCount = closedPeriodVisits(start.toLocalDate(), end.toLocalDate(), vetId);
 
         String period = start.format(DateTimeFormatter.ofPattern("yyyy년 MM월"));
 
@@ -71,15 +84,21 @@ public class StatisticsService {
 
     }
 
+    // 종료된 기간의 방문 건수는 한 번 계산한 값을 재사용
+    private Long closedPeriodVisits(LocalDate startDate, LocalDate endDate, Long vetId) {
+        return closedPeriodStatCache.get(ClosedPeriodStatCache.VISITS, vetId, startDate, endDate, Long.class,
+                () -> dailyVisitRollupService.sumVisits(startDate, endDate, vetId));
+    }
+
     //전주 방문자 비교
     @Transactional
-    public WeeklyComparisonDto getWeeklyComparison(){
-        WeeklyStatisticsDto lastWeek = getLastWeekWeekStatistics();
+    public WeeklyComparisonDto getWeeklyComparison(Long vetId){
+        WeeklyStatisticsDto lastWeek = getLastWeekWeekStatistics(vetId);
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime start = now.minusDays(now.getDayOfWeek().getValue() - 1)
                 .withHour(0).withMinute(0).withSecond(0);
-        Long thisWeekVisitCount = statisticsRepository.countLastWeekVisits(start, now);
+        Long thisWeekVisitCount = dailyVisitRollupService.sumVisits(start.toLocalDate(), now.toLocalDate().plusDays(1), vetId);
 
         String thisWeekPeriod = "이번 주: "+ start.format(DateTimeFormatter.ofPattern("MM월 dd일"))
                 +" ~ " + now.format(DateTimeFormatter.ofPattern("MM월 dd일"));
@@ -92,13 +111,13 @@ public class StatisticsService {
 
     //전월 방문자 비교
     @Transactional
-    public MonthlyComparisonDto getMonthlyComparison(){
-        MonthlyStatisticsDto lastMonth = getLastMonthWeekStatistics();
+    public MonthlyComparisonDto getMonthlyComparison(Long vetId){
+        MonthlyStatisticsDto lastMonth = getLastMonthWeekStatistics(vetId);
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime start = now.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
 
-        Long thisMonthVisitCount = statisticsRepository.countLastMonthVisits(start, now);
+        Long thisMonthVisitCount = dailyVisitRollupService.sumVisits(start.toLocalDate(), now.toLocalDate().plusDays(1), vetId);
 
         String thisMonthPeriod = start.format(DateTimeFormatter.ofPattern("yyyy년 MM월"));
 
@@ -110,15 +129,34 @@ public class StatisticsService {
 
     //지난 달 강아지/고양이/기타 전체 진료 기준 비율 통계
     @Transactional
-    public AnimalTypeDto getLastMonthAnimalTypeRate(){
+    public AnimalTypeDto getLastMonthAnimalTypeRate(Long vetId){
         LocalDateTime now = LocalDateTime.now();
 
         LocalDateTime end = now.withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0);
         LocalDateTime start = end.minusMonths(1);
 
-        Long dogCount = statisticsRepository.countDogTreatments(start, end);
-        Long catCount = statisticsRepository.countCatTreatments(start, end);
-        Long otherCount = statisticsRepository.countOtherTreatments(start, end);
+        return closedPeriodStatCache.get(ClosedPeriodStatCache.ANIMAL_TYPE, vetId, start.toLocalDate(), end.toLocalDate(),
+                AnimalTypeDto.class, () -> calculateAnimalTypeRate(start, end, vetId));
+    }
+
+    private AnimalTypeDto calculateAnimalTypeRate(LocalDateTime start, LocalDateTime end, Long vetId){
+        BreakdownDto breakdown = getBreakdown(BreakdownDimension.SPECIES, start.toLocalDate(), end.toLocalDate(), vetId);
+
+        long dogCount = 0L;
+        long catCount = 0L;
+        long otherCount = 0L;
+        for (BreakdownBucketDto bucket : breakdown.getBuckets()) {
+            if (bucket.getKey() == null) {
+                continue; // 종 미입력은 기존과 동일하게 제외
+            }
+            if (DOG.equals(bucket.getKey())) {
+                dogCount += bucket.getCount();
+            } else if (CAT.equals(bucket.getKey())) {
+                catCount += bucket.getCount();
+            } else {
+                otherCount += bucket.getCount();
+            }
+        }
         Long totalCount = dogCount + catCount + otherCount;
 
         String period = start.format(DateTimeFormatter.ofPattern("yyyy년 MM월"));
@@ -126,6 +164,41 @@ public class StatisticsService {
         return new AnimalTypeDto(period, dogCount, catCount, otherCount, totalCount);
     }
 
+    //분류 기준별 진료 건수 (startDate 포함, endDate 미포함, vetId 가 null 이면 전체 병원)
+    @Transactional
+    public BreakdownDto getBreakdown(BreakdownDimension dimension, LocalDate startDate, LocalDate endDate, Long vetId){
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 이전이어야 합니다.");
+        }
+
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.atStartOfDay();
+
+        List<BreakdownBucketDto> buckets = switch (dimension) {
+            case SPECIES -> toBuckets(statisticsRepository.countGroupBySpecies(start, end, vetId));
+            case BREED -> toBuckets(statisticsRepository.countGroupByBreed(start, end, vetId));
+            case RESERVATION_TYPE -> toBuckets(statisticsRepository.countGroupByReservationType(start, end, vetId));
+            case CHECKUP_TYPE -> toBuckets(statisticsRepository.countGroupByCheckupType(start, end, vetId));
+            case DOCTOR -> statisticsRepository.countGroupByDoctor(start, end, vetId).stream()
+                    .map(row -> new BreakdownBucketDto(String.valueOf(row[0]), (String) row[1], (Long) row[2]))
+                    .toList();
+        };
+
+        long totalCount = buckets.stream().mapToLong(BreakdownBucketDto::getCount).sum();
+
+        return new BreakdownDto(dimension, startDate, endDate, buckets, totalCount);
+    }
+
+    // (분류 값, 건수) 행을 구간으로 변환
+    private List<BreakdownBucketDto> toBuckets(List<Object[]> rows){
+        return rows.stream()
+                .map(row -> {
+                    String key = row[0] != null ? row[0].toString() : null;
+                    return new BreakdownBucketDto(key, key, (Long) row[1]);
+                })
+                .toList();
+    }
+
     //비교 로직
     private String calculateTrend(Long previous , Long current){
         if(current > previous){
@@ -151,30 +224,57 @@ public class StatisticsService {
     // 권한 체크
         validateUserAccess(userId, currentUser);
 
-    // 통계 계산 로직
-        return UserStatsDto.builder()
-                .todayReservations(calculateTodayReservations(userId))
-                .upcomingReservations(calculateUpcomingReservations(userId))
-                .pendingReservations(calculatePendingReservations(userId)) // 추가
-                .totalPets(calculateTotalPets(userId))
-                .totalTreatments(calculateTotalTreatments(userId))
-                .lastVisitDate(getLastVisitDate(userId))
-                .build();
+    // 통계 계산 로직 (캐시 미스일 때만 조회)
+        return dashboardStatsCache.getUserStats(userId, () -> {
+            LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+            cards.put("todayReservations", () -> calculateTodayReservations(userId));
+            cards.put("upcomingReservations", () -> calculateUpcomingReservations(userId));
+            cards.put("pendingReservations", () -> calculatePendingReservations(userId)); // 추가
+            cards.put("totalPets", () -> calculateTotalPets(userId));
+            cards.put("totalTreatments", () -> calculateTotalTreatments(userId));
+            cards.put("lastVisitDate", () -> getLastVisitDate(userId));
+
+            DashboardCardLoader.Cards result = dashboardCardLoader.load(cards);
+            return UserStatsDto.builder()
+                    .todayReservations(result.getInt("todayReservations"))
+                    .upcomingReservations(result.getInt("upcomingReservations"))
+                    .pendingReservations(result.getInt("pendingReservations"))
+                    .totalPets(result.getInt("totalPets"))
+                    .totalTreatments(result.getInt("totalTreatments"))
+                    .lastVisitDate(result.get("lastVisitDate"))
+                    .missingCards(result.missing())
+                    .build();
+        }, stats -> stats.getMissingCards().isEmpty());
     }
 
     // 누락된 메서드들 추가
     private void validateUserAccess(Long userId, UserDetails currentUser) {
-        User user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new RuntimeException("보호자 정보를 찾을 수 없습니다."));
-
         // 본인의 통계만 조회 가능하도록 권한 체크 (관리자/직원은 모든 보호자 조회 가능)
-        if (!user.getId().equals(userId) &&
-                user.getRole() != UserRole.ROLE_ADMIN &&
-                user.getRole() != UserRole.ROLE_STAFF) {
+        if (!resolveUserId(currentUser).equals(userId) &&
+                !hasRole(currentUser, UserRole.ROLE_ADMIN) &&
+                !hasRole(currentUser, UserRole.ROLE_STAFF)) {
             throw new RuntimeException("본인의 통계만 조회할 수 있습니다.");
         }
     }
 
+    // 인증 정보에 id가 있으면 그대로 사용하고, 없을 때만 DB 조회
+    private Long resolveUserId(UserDetails currentUser) {
+        if (currentUser instanceof SecurityUser securityUser) {
+            return securityUser.getId();
+        }
+        if (currentUser instanceof User user) {
+            return user.getId();
+        }
+        return userRepository.findByEmail(currentUser.getUsername())
+                .orElseThrow(() -> new RuntimeException("보호자 정보를 찾을 수 없습니다."))
+                .getId();
+    }
+
+    private boolean hasRole(UserDetails currentUser, UserRole role) {
+        return currentUser.getAuthorities().stream()
+                .anyMatch(authority -> role.name().equals(authority.getAuthority()));
+    }
+
     private int calculateTodayReservations(Long userId) {
         LocalDate today = LocalDate.now();
         return reservationRepository.countTodayReservationsByUserId(userId, today);
@@ -217,89 +317,124 @@ public class StatisticsService {
                 .orElse(null);
     }
 
-    // 관리자 대시보드 통계 (수정됨)
-    public AdminStatsDto getAdminDashboardStats(UserDetails currentUser) {
+    // 관리자 대시보드 통계 (vetId: 관리자 소속 병원, null 이면 전체 병원)
+    public AdminStatsDto getAdminDashboardStats(UserDetails currentUser, Long vetId) {
     // 권한 체크
         validateAdminAccess(currentUser);
 
-        return AdminStatsDto.builder()
-                .todayTotalReservations(calculateTodayTotalReservations()) // 수정됨
-                .totalPets(calculateTotalPetsInHospital())
-                .pendingReservations(calculatePendingReservations())
-                .weeklyCompletedTreatments(calculateWeeklyCompletedTreatments())
-                .recentVaccinations(calculateRecentVaccinations())
-                .build();
+        return dashboardStatsCache.getAdminStats(vetId, () -> {
+            LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+            cards.put("todayTotalReservations", () -> calculateTodayTotalReservations(vetId)); // 수정됨
+            cards.put("totalPets", this::calculateTotalPetsInHospital);
+            if (vetId != null) {
+                cards.put("treatedPets", () -> calculateTreatedPetsInHospital(vetId));
+            }
+            cards.put("pendingReservations", () -> calculateVetPendingReservations(vetId));
+            cards.put("weeklyCompletedTreatments", () -> calculateWeeklyCompletedTreatments(vetId));
+            cards.put("recentVaccinations", () -> calculateRecentVaccinations(vetId));
+
+            DashboardCardLoader.Cards result = dashboardCardLoader.load(cards);
+            return AdminStatsDto.builder()
+                    .todayTotalReservations(result.getInt("todayTotalReservations"))
+                    .totalPets(result.getInt("totalPets"))
+                    .treatedPets(vetId != null ? result.getInt("treatedPets") : null)
+                    .pendingReservations(result.getInt("pendingReservations"))
+                    .weeklyCompletedTreatments(result.getInt("weeklyCompletedTreatments"))
+                    .recentVaccinations(result.getInt("recentVaccinations"))
+                    .missingCards(result.missing())
+                    .build();
+        }, stats -> stats.getMissingCards().isEmpty());
     }
 
-    // 의료진 대시보드 통계
-    public StaffStatsDto getStaffDashboardStats(UserDetails currentUser) {
+    // 의료진 대시보드 통계 (vetId: 의료진 소속 병원 - 승인 대기 건수 기준)
+    public StaffStatsDto getStaffDashboardStats(UserDetails currentUser, Long vetId) {
     // 권한 체크 및 의료진 정보 조회
-        User staff = validateStaffAccess(currentUser);
+        Long staffId = validateStaffAccess(currentUser);
+
+        return dashboardStatsCache.getStaffStats(staffId, () -> {
+            LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+            cards.put("todayMyReservations", () -> calculateTodayMyReservations(staffId));
+            cards.put("myTreatedPets", () -> calculateMyTreatedPets(staffId));
+            cards.put("pendingReservations", () -> calculateVetPendingReservations(vetId));
+            cards.put("weeklyMyTreatments", () -> calculateWeeklyMyTreatments(staffId));
+            cards.put("weeklyVaccinations", () -> calculateWeeklyMyVaccinations(staffId));
+
+            DashboardCardLoader.Cards result = dashboardCardLoader.load(cards);
+            return StaffStatsDto.builder()
+                    .todayMyReservations(result.getInt("todayMyReservations"))
+                    .myTreatedPets(result.getInt("myTreatedPets"))
+                    .pendingReservations(result.getInt("pendingReservations"))
+                    .weeklyMyTreatments(result.getInt("weeklyMyTreatments"))
+                    .weeklyVaccinations(result.getInt("weeklyVaccinations"))
+                    .missingCards(result.missing())
+                    .build();
+        }, stats -> stats.getMissingCards().isEmpty());
+    }
+
+    // 관리자 대시보드 실시간 카운터 (이후 변경분은 SSE "dashboard" 이벤트로 전달)
+    public LiveDashboardDto getLiveAdminDashboard(UserDetails currentUser, Long vetId) {
+        validateAdminAccess(currentUser);
+        return dashboardLiveCounters.current(vetId);
+    }
 
-        return StaffStatsDto.builder()
-                .todayMyReservations(calculateTodayMyReservations(staff.getId()))
-                .myTreatedPets(calculateMyTreatedPets(staff.getId()))
-                .pendingReservations(calculatePendingReservations())
-                .weeklyMyTreatments(calculateWeeklyMyTreatments(staff.getId()))
-                .weeklyVaccinations(calculateWeeklyMyVaccinations(staff.getId()))
-                .build();
+    // 대시보드 캐시 적중/미스 현황
+    public DashboardCacheStatsDto getDashboardCacheStats() {
+        return dashboardStatsCache.getStats();
     }
 
     // 권한 체크
     private void validateAdminAccess(UserDetails currentUser) {
-        User user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new RuntimeException("보호자 정보를 찾을 수 없습니다."));
-
-        if (user.getRole() != UserRole.ROLE_ADMIN) {
+        if (!hasRole(currentUser, UserRole.ROLE_ADMIN)) {
             throw new RuntimeException("관리자만 접근할 수 있습니다.");
         }
     }
 
-    private User validateStaffAccess(UserDetails currentUser) {
-        User user = userRepository.findByEmail(currentUser.getUsername())
-                .orElseThrow(() -> new RuntimeException("보호자 정보를 찾을 수 없습니다."));
-
-        if (user.getRole() != UserRole.ROLE_STAFF) {
+    private Long validateStaffAccess(UserDetails currentUser) {
+        if (!hasRole(currentUser, UserRole.ROLE_STAFF)) {
             throw new RuntimeException("의료진만 접근할 수 있습니다.");
         }
 
-        return user; // 의료진 정보 반환
+        return resolveUserId(currentUser); // 의료진 ID 반환
     }
 
-    // 관리자용 메서드들 (수정됨)
-    private int calculateTodayTotalReservations() {
+    // 관리자용 메서드들 - 병원은 담당의 소속 병원 기준 (vetId 가 null 이면 전체 병원)
+    private int calculateTodayTotalReservations(Long vetId) {
         LocalDate today = LocalDate.now();
     // 확정된 예약만 계산
-        return reservationRepository.countApprovedReservationsByDate(today);
+        return statisticsRepository.countApprovedReservations(today, vetId);
     }
 
+    // 등록된 전체 반려동물 수 (반려동물은 병원에 속하지 않으므로 병원과 관계없이 정확한 값)
     private int calculateTotalPetsInHospital() {
         return (int) petRepository.count();
     }
 
-    private int calculatePendingReservations() {
-        return reservationRepository.countByStatus(ReservationStatus.PENDING);
+    // 병원에서 진료한 고유 반려동물 수 - 스케치 추정치 (삭제된 진료기록은 스케치 재생성 전까지 포함됨)
+    private int calculateTreatedPetsInHospital(Long vetId) {
+        return distinctPetSketchService.estimateAll(SketchScope.VET, vetId);
+    }
+
+    // 병원이 정해지지 않은 승인 대기 예약은 모든 병원에 포함
+    private int calculateVetPendingReservations(Long vetId) {
+        return statisticsRepository.countPendingReservations(vetId);
     }
 
     // 관리자용 주간 완료된 진료 수 (수정됨 - 월~일 기준)
-    private int calculateWeeklyCompletedTreatments() {
+    private int calculateWeeklyCompletedTreatments(Long vetId) {
         LocalDateTime[] weekRange = getWeekRange();
         LocalDateTime startDateTime = weekRange[0];  // 월요일 00:00:00
         LocalDateTime endDateTime = weekRange[1];    // 일요일 23:59:59
 
-        return medicalRecordRepository.countByIsDeletedFalseAndCreatedAtBetween(
-                startDateTime,
-                endDateTime
-        );
+        return statisticsRepository.countTreatments(startDateTime, endDateTime, vetId);
     }
 
     // 관리자용 주간 예방접종 계산 (수정됨 - 월~일 기준)
-    private int calculateRecentVaccinations() {
+    private int calculateRecentVaccinations(Long vetId) {
         LocalDateTime[] weekRange = getWeekRange();
         LocalDateTime startDateTime = weekRange[0];  // 월요일 00:00:00
         LocalDateTime endDateTime = weekRange[1];    // 일요일 23:59:59
 
-        return vaccineRepository.countByCreatedAtBetween(startDateTime, endDateTime);
+        return statisticsRepository.countVaccinations(startDateTime, endDateTime, vetId);
     }
 
     // 의료진용 새로운 메서드들
@@ -308,8 +443,9 @@ public class StatisticsService {
         return reservationRepository.countByDoctorIdAndReservationDate(doctorId, today);
     }
 
+    // 전체 기간 COUNT(DISTINCT) 대신 스케치 추정치 사용 (정확한 값은 /unique-pets?exact=true)
     private int calculateMyTreatedPets(Long doctorId) {
-        return medicalRecordRepository.countDistinctPetsByDoctorId(doctorId);
+        return distinctPetSketchService.estimateAll(SketchScope.DOCTOR, doctorId);
     }
 
     // 의료진용 주간 진료 수 (수정됨 - 월~일 기준)
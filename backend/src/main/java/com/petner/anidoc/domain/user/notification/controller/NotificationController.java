@@ -1,9 +1,12 @@
 package com.petner.anidoc.domain.user.notification.controller;
 
+import com.petner.anidoc.domain.user.notification.dto.BroadcastDeliveryDto;
 import com.petner.anidoc.domain.user.notification.dto.NotificationDto;
 import com.petner.anidoc.domain.user.notification.entity.Notification;
+import com.petner.anidoc.domain.user.notification.service.BroadcastDeliveryService;
 import com.petner.anidoc.domain.user.notification.service.NotificationService;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
+import com.petner.anidoc.global.security.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +15,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -24,6 +29,7 @@ import java.util.Map;
 @Tag(name = "알림", description = "notification 관련 API")
 public class NotificationController {
     private final NotificationService notificationService;
+    private final BroadcastDeliveryService broadcastDeliveryService;
     private final PetRepository petRepository;
 
     //알림 전체 목록
@@ -35,17 +41,31 @@ public class NotificationController {
             @RequestParam(defaultValue = "10") int size
     ){
         Pageable pageable = PageRequest.of(page, size);
-        return notificationService.getNotifications(userId, pageable)
-                .map(NotificationDto::from);
+        return notificationService.getNotifications(userId, pageable);
     }
 
-    //알림 읽음 처리(1개)
+    //알림 읽음 처리(1개) - 본인 알림만
     @PatchMapping("/{notificationId}/read")
-    public ResponseEntity<Void> markAsRead(@PathVariable Long notificationId){
-        notificationService.markAsRead(notificationId);
+    public ResponseEntity<Void> markAsRead(@AuthenticationPrincipal SecurityUser user, @PathVariable Long notificationId){
+        notificationService.markAsRead(user.getId(), notificationId);
         return ResponseEntity.noContent().build();
     }
 
+    //전체 알림(공지 등) 읽음 처리 - 해당 알림과 그 이전 전체 알림을 읽음으로
+    @PatchMapping("/broadcasts/{broadcastId}/read")
+    public ResponseEntity<Void> markBroadcastAsRead(@AuthenticationPrincipal SecurityUser user, @PathVariable Long broadcastId){
+        notificationService.markBroadcastAsRead(user.getId(), broadcastId);
+        return ResponseEntity.noContent().build();
+    }
+
+    //전체 알림(공지 등) 실시간 전송 현황 - 이 서버에 연결된 클라이언트 기준
+    @Operation(summary = "전체 알림 전송 현황", description = "대상 연결 수, 전송 성공/실패 수를 확인합니다. (최근 전체 알림만)")
+    @GetMapping("/broadcasts/{broadcastId}/delivery")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BroadcastDeliveryDto> getBroadcastDelivery(@PathVariable Long broadcastId){
+        return ResponseEntity.ok(broadcastDeliveryService.getDelivery(broadcastId));
+    }
+
     //알림 읽음 처리(전체)
     @PatchMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead(@RequestParam Long userId){
@@ -1,19 +1,21 @@
 package com.petner.anidoc.domain.user.notification.controller;
 
 
+import com.petner.anidoc.domain.user.notification.dto.SseStatsDto;
 import com.petner.anidoc.domain.user.notification.service.NotificationService;
 import com.petner.anidoc.domain.user.notification.service.SseEmitters;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -28,47 +30,57 @@ public class NotificationSseController {
     //테스트를 위한 service
     private final NotificationService notificationService;
 
+    @Value("${notification.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
     // 클라이언트의 SSE 연결 요청을 처리하는 엔드포인트
     // /sse/connect로 GET 요청이 오면 SSE 스트림을 생성
     @Operation(summary = "SSE 알림 API", description = "알림이 생성됩니다.")
     @GetMapping(value = "/connect", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> connect(@RequestParam Long userId) {
+    public ResponseEntity<SseEmitter> connect(
+            @RequestParam Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
         log.info("🔗 SSE 연결 요청: 사용자 {}", userId);
-        // 새로운 SSE 연결 생성 (타임아웃 1시간=60L * 60 * 1000, 기본값 30초)
-        SseEmitter emitter = new SseEmitter(0L);
+        // 새로운 SSE 연결 생성 - 타임아웃이 지나면 닫히고 브라우저(EventSource)가 다시 연결
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        // 브라우저가 자동 재연결하면 헤더로, 클라이언트가 직접 다시 연결하면 쿼리 파라미터로 마지막 이벤트 ID 가 옴
+        Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+
+        // 초기 연결 성공 메시지 - 놓친 이벤트를 모두 다시 보낼 수 있으면 읽지 않은 알림 개수는 조회하지 않음
+        Map<String, Object> connectData = new HashMap<>();
+        connectData.put("type", "connect");
+        connectData.put("message", "connected!");
+        if (!sseEmitters.canResume(userId, lastEventId)) {
+            connectData.put("unreadCount", notificationService.getUnreadCount(userId)); // 읽지 않은 알림 개수 추가
+        }
 
-        // 생성된 emitter를 컬렉션에 추가하여 관리
-        sseEmitters.add(userId, emitter);
-        sseEmitters.add(userId, emitter); // 여기서 emitters Map에 추가되어야 함
+        // 생성된 emitter를 컬렉션에 추가하고 초기 메시지와 놓친 이벤트를 순서대로 전송
+        sseEmitters.add(userId, emitter, lastEventId, "connect", connectData);
 
-        log.info("📝 사용자 {} emitter 등록 완료", userId);
-        log.info("현재 등록된 emitter 수: {}", sseEmitters.getEmitterCount()); // ⭐ getter 사용
-        log.info("등록된 사용자 ID들: {}", sseEmitters.getConnectedUserIds()); // ⭐ 이 로그도 추가
+        log.info("📝 사용자 {} emitter 등록 완료 (접속 사용자 수: {})", userId, sseEmitters.getEmitterCount());
 
+        return ResponseEntity.ok(emitter);
+    }
 
+    private static Long parseEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
         try {
-            // 연결된 클라이언트에게 초기 연결 성공 메시지 전송
-            Long unreadCount = notificationService.getUnreadCount(userId);
-
-            // ⭐ 검색 결과 5번에서 제시한 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Cache-Control", "no-cache");
-            headers.add("X-Accel-Buffering", "no");
-
-            emitter.send(SseEmitter.event()
-                    .name("connect")    // 이벤트 이름을 "connect"로 지정
-                    .data(Map.of(
-                            "type", "connect",
-                            "message", "connected!",
-                            "unreadCount", unreadCount  // 읽지 않은 알림 개수 추가
-                    ))); // 전송할 데이터
-
-        } catch (IOException e) {
-            sseEmitters.remove(userId, emitter);
-            throw new RuntimeException(e);
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null; // 알 수 없는 ID - 처음 연결한 것으로 처리
         }
+    }
 
-        return ResponseEntity.ok(emitter);
+    // SSE 연결/전송 큐 현황
+    @Operation(summary = "SSE 전송 현황", description = "연결 수, 전송 대기 이벤트 수, 버리거나 합친 이벤트 수를 확인합니다.")
+    @GetMapping("/sse-stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<SseStatsDto> getSseStats() {
+        return ResponseEntity.ok(sseEmitters.getStats());
     }
 
     }
@@ -0,0 +1,33 @@
+package com.petner.anidoc.domain.user.notification.dto;
+
+import com.petner.anidoc.domain.user.notification.util.DeliveryProgress;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastDeliveryDto {
+    private Long broadcastId;
+    private boolean done;             // 대상 연결 모두 전송 성공/실패가 정해졌으면 true
+    private int targetConnections;    // 전송 대상 연결 수 (이 인스턴스에 연결된 클라이언트)
+    private int sent;                 // 전송 성공
+    private int failed;               // 전송 실패 (연결 끊김, 큐 초과 등 - 알림 목록을 다시 조회하면 보임)
+    private LocalDateTime startedAt;
+
+    public static BroadcastDeliveryDto from(DeliveryProgress progress) {
+        return BroadcastDeliveryDto.builder()
+                .broadcastId(progress.getBroadcastId())
+                .done(progress.isDone())
+                .targetConnections(progress.getTargets())
+                .sent(progress.getSent())
+                .failed(progress.getFailed())
+                .startedAt(progress.getStartedAt())
+                .build();
+    }
+}
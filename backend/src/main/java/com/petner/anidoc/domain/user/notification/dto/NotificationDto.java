@@ -1,5 +1,6 @@
 package com.petner.anidoc.domain.user.notification.dto;
 
+import com.petner.anidoc.domain.user.notification.entity.BroadcastNotification;
 import com.petner.anidoc.domain.user.notification.entity.Notification;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,7 @@ public class NotificationDto {
     private LocalDateTime createdAt;
     private Boolean isRead;
     private String type;
+    private boolean broadcast; // 전체 알림이면 true (읽음 처리는 /broadcasts/{id}/read)
 
     public static NotificationDto from(Notification notification) {
         return NotificationDto.builder()
@@ -29,4 +31,15 @@ public class NotificationDto {
                 .build();
     }
 
+    public static NotificationDto from(BroadcastNotification broadcast, boolean isRead) {
+        return NotificationDto.builder()
+                .id(broadcast.getId())
+                .content(broadcast.getContent())
+                .createdAt(broadcast.getCreatedAt())
+                .isRead(isRead)
+                .type(broadcast.getType().name())
+                .broadcast(true)
+                .build();
+    }
+
 }
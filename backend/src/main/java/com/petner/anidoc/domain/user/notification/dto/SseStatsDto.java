@@ -0,0 +1,33 @@
+package com.petner.anidoc.domain.user.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseStatsDto {
+    private int users;              // 접속 중인 사용자 수
+    private int connections;        // 열린 SSE 연결 수
+    private long queuedEvents;      // 전송 대기 중인 이벤트 수 (전체 큐 합계)
+    private int maxQueueDepth;      // 가장 많이 밀린 연결의 대기 이벤트 수
+    private int queueCapacity;      // 연결당 큐 크기
+    private String overflowPolicy;  // 큐가 가득 찼을 때 정책
+    private long sentEvents;        // 전송한 이벤트 수
+    private long droppedEvents;     // 큐 초과로 버린 이벤트 수
+    private long coalescedEvents;   // 큐 초과로 최신 데이터로 합친 이벤트 수
+    private long disconnectedSlow;  // 큐 초과로 끊은 연결 수
+    private long failedSends;       // 전송 실패(연결 끊김) 수
+    private long heartbeats;        // 보낸 heartbeat 수
+    private long reapedConnections; // 전송이 멈춰 정리한 연결 수
+    private long evictedOverCap;    // 사용자당 연결 수 초과로 닫은 연결 수
+    private long duplicateRegistrations; // 이미 등록된 emitter 의 중복 등록 시도 수
+    private int bufferedUsers;      // 재전송용 이벤트를 보관 중인 사용자 수
+    private int replaySize;         // 사용자별/전체 보관 이벤트 수
+    private long resumedConnections; // 놓친 이벤트만 다시 보내고 이어간 재연결 수
+    private long resyncConnections; // 보관 범위를 벗어나 목록을 다시 조회해야 했던 재연결 수
+    private long replayedEvents;    // 재연결 시 다시 보낸 이벤트 수
+}
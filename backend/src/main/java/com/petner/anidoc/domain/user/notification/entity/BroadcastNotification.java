@@ -0,0 +1,32 @@
+package com.petner.anidoc.domain.user.notification.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 전체 사용자 알림 (공지사항 등)
+ * - 사용자마다 행을 만들지 않고 알림 하나당 한 행만 저장
+ * - 알림 목록/읽지 않은 수는 조회할 때 개인 알림과 합침 (가입 이후의 전체 알림만 보임)
+ * - 읽음 여부는 사용자별 BroadcastReadMark 의 lastReadId 로 판단 (ID 가 그 이하면 읽음)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "broadcast_notifications")
+public class BroadcastNotification extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+}
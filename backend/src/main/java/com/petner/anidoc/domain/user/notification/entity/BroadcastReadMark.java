@@ -0,0 +1,38 @@
+package com.petner.anidoc.domain.user.notification.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 사용자별 전체 알림 읽음 위치
+ * - lastReadId 이하의 전체 알림은 읽은 것으로 봄 (읽음 처리는 위치를 앞으로만 옮김)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "broadcast_read_marks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_broadcast_read_marks_user", columnNames = "user_id"))
+public class BroadcastReadMark extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_read_id", nullable = false)
+    @Builder.Default
+    private Long lastReadId = 0L;
+
+    public void readUpTo(Long broadcastId) {
+        if (broadcastId != null && broadcastId > this.lastReadId) {
+            this.lastReadId = broadcastId;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.petner.anidoc.domain.user.notification.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스
+ * - 예약 트랜잭션 안에서 보낼 알림을 이 테이블에만 기록하고, 커밋된 뒤 디스패처가 알림 저장 + SSE 전송
+ * - 롤백되면 기록도 함께 사라지므로 반영되지 않은 변경의 알림이 나가지 않음
+ * - 사용자별로 ID 순서대로 전송하고, 실패하면 nextAttemptAt 까지 기다렸다가 재시도
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_user_status", columnList = "user_id, status, id"),
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class NotificationOutbox extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    // 알림과 함께 보낼 데이터 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 전송 실패 - nextAttemptAt 이 null 이면 더 이상 재시도하지 않음
+    public void failed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (nextAttemptAt == null) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
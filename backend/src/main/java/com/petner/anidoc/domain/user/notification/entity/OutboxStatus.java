@@ -0,0 +1,5 @@
+package com.petner.anidoc.domain.user.notification.entity;
+
+public enum OutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,13 @@
+package com.petner.anidoc.domain.user.notification.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 아웃박스에 알림이 기록됨 (커밋 이후 해당 사용자 알림 전송)
+@Getter
+@AllArgsConstructor
+@ToString
+public class NotificationEnqueuedEvent {
+    private final Long userId;
+}
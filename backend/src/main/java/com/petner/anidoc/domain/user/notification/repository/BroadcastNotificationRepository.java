@@ -0,0 +1,29 @@
+package com.petner.anidoc.domain.user.notification.repository;
+
+import com.petner.anidoc.domain.user.notification.entity.BroadcastNotification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    String VISIBLE = " WHERE b.createdAt >= (SELECT u.createdAt FROM User u WHERE u.id = :userId)";
+
+    // 사용자에게 보이는 전체 알림 (가입 이후, 최신순)
+    @Query("SELECT b FROM BroadcastNotification b" + VISIBLE + " ORDER BY b.id DESC")
+    List<BroadcastNotification> findVisible(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT COUNT(b) FROM BroadcastNotification b" + VISIBLE)
+    long countVisible(@Param("userId") Long userId);
+
+    // 읽음 위치 이후의 전체 알림 수 (읽지 않은 수)
+    @Query("SELECT COUNT(b) FROM BroadcastNotification b" + VISIBLE + " AND b.id > :lastReadId")
+    long countVisibleAfter(@Param("userId") Long userId, @Param("lastReadId") Long lastReadId);
+
+    @Query("SELECT MAX(b.id) FROM BroadcastNotification b" + VISIBLE)
+    Optional<Long> findMaxVisibleId(@Param("userId") Long userId);
+}
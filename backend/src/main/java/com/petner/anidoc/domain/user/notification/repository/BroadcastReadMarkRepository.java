@@ -0,0 +1,16 @@
+package com.petner.anidoc.domain.user.notification.repository;
+
+import com.petner.anidoc.domain.user.notification.entity.BroadcastReadMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BroadcastReadMarkRepository extends JpaRepository<BroadcastReadMark, Long> {
+
+    Optional<BroadcastReadMark> findByUserId(Long userId);
+
+    @Query("SELECT m.lastReadId FROM BroadcastReadMark m WHERE m.userId = :userId")
+    Optional<Long> findLastReadIdByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,33 @@
+package com.petner.anidoc.domain.user.notification.repository;
+
+import com.petner.anidoc.domain.user.notification.entity.NotificationOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 사용자의 전송 대기 알림 (기록된 순서대로)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.userId = :userId AND o.status = 'PENDING' ORDER BY o.id")
+    List<NotificationOutbox> findPendingByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 지금 전송(재시도)해야 할 알림이 있는 사용자
+    @Query("SELECT DISTINCT o.userId FROM NotificationOutbox o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now")
+    List<Long> findDueUserIds(@Param("now") LocalDateTime now);
+
+    // 전송 선점 - 다른 인스턴스가 이미 보낸 알림이면 0
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'SENT', o.attempts = o.attempts + 1"
+            + " WHERE o.id = :id AND o.status = 'PENDING'")
+    int markSent(@Param("id") Long id);
+
+    // 보관 기간이 지난 전송 완료 알림 정리
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = 'SENT' AND o.createdAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -1,9 +1,13 @@
 package com.petner.anidoc.domain.user.notification.repository;
 
 import com.petner.anidoc.domain.user.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +26,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     //페이징 처리
     Page<Notification> findAllByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    //최신 알림 limit 개 (전체 알림과 합쳐서 페이징할 때 사용)
+    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Limit limit);
+
+    long countByUserId(Long userId);
+
+    //읽지 않은 알림 한 번에 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
 }
@@ -0,0 +1,77 @@
+package com.petner.anidoc.domain.user.notification.service;
+
+import com.petner.anidoc.domain.user.notification.dto.BroadcastDeliveryDto;
+import com.petner.anidoc.domain.user.notification.entity.NotificationType;
+import com.petner.anidoc.domain.user.notification.util.DeliveryProgress;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ✅ BroadcastDeliveryService
+ * - 전체 알림(공지 등)의 실시간 전송을 요청 스레드가 아닌 가상 스레드에서 실행
+ * - 최근 전체 알림 MAX_TRACKED 건의 전송 현황(대상 연결 수, 성공, 실패)을 보관 - 인스턴스마다 자기 연결만 집계
+ * - 전송에 실패한 사용자도 알림 목록/읽지 않은 수를 조회할 때 전체 알림이 합쳐지므로 알림 자체를 잃지는 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastDeliveryService {
+
+    private static final int MAX_TRACKED = 100;
+
+    private final SseEmitters sseEmitters;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 전체 알림 ID -> 전송 현황 (오래된 것부터 제거, recent 로 동기화)
+    private final Map<Long, DeliveryProgress> recent = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, DeliveryProgress> eldest) {
+            return size() > MAX_TRACKED;
+        }
+    };
+
+    // 커밋 이후 호출 - 접속 중인 사용자에게 전송하고, 공지면 공지 목록 새로고침 이벤트도 전송
+    public void deliver(Long broadcastId, NotificationType type, Object data) {
+        DeliveryProgress progress = new DeliveryProgress(broadcastId);
+        synchronized (recent) {
+            recent.put(broadcastId, progress);
+        }
+        executor.execute(() -> {
+            try {
+                sseEmitters.noti(type.name().toLowerCase(), data, progress);
+
+                // 전역 이벤트 발생 (페이지 새로고침용)
+                if (type == NotificationType.NOTICE) {
+                    sseEmitters.noti("notice-refresh", data);
+                }
+            } catch (RuntimeException e) {
+                progress.dispatched();
+                log.error("전체 알림 전송 실패 - broadcastId: {}", broadcastId, e);
+            }
+        });
+    }
+
+    public BroadcastDeliveryDto getDelivery(Long broadcastId) {
+        DeliveryProgress progress;
+        synchronized (recent) {
+            progress = recent.get(broadcastId);
+        }
+        if (progress == null) {
+            throw new IllegalArgumentException("전송 현황이 없는 알림입니다. (최근 " + MAX_TRACKED + "건만 보관)");
+        }
+        return BroadcastDeliveryDto.from(progress);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
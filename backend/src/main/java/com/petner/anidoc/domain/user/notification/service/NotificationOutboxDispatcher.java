@@ -0,0 +1,119 @@
+package com.petner.anidoc.domain.user.notification.service;
+
+import com.petner.anidoc.domain.user.notification.entity.NotificationOutbox;
+import com.petner.anidoc.domain.user.notification.event.NotificationEnqueuedEvent;
+import com.petner.anidoc.domain.user.notification.repository.NotificationOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ NotificationOutboxDispatcher
+ * - 아웃박스 알림을 커밋 이후 가상 스레드에서 전송 (요청 스레드/예약 트랜잭션과 분리)
+ * - 사용자마다 전송 작업은 하나만 돌며 ID 순서대로 보냄
+ *   - 실패한 알림은 재시도 시각까지 그 사용자의 뒤 알림도 함께 대기 (순서 유지)
+ * - 주기적으로 재시도 시각이 된 알림과 재시작 전에 남은 알림을 다시 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxService notificationOutboxService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 사용자별 전송 요청 수 - 0 에서 올라갈 때만 전송 작업을 시작하고, 작업은 0 이 될 때까지 반복
+    private final Map<Long, AtomicInteger> wakeups = new ConcurrentHashMap<>();
+
+    @Value("${notification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // 알림 기록 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(NotificationEnqueuedEvent event) {
+        signal(event.getUserId());
+    }
+
+    // 재시도 시각이 된 알림 전송
+    @Scheduled(fixedDelayString = "${notification.outbox.retry-ms:5000}")
+    public void retryDue() {
+        notificationOutboxRepository.findDueUserIds(LocalDateTime.now()).forEach(this::signal);
+    }
+
+    // 보관 기간이 지난 전송 완료 알림 정리
+    @Scheduled(fixedDelayString = "${notification.outbox.cleanup-ms:3600000}")
+    @Transactional
+    public void cleanup() {
+        int deleted = notificationOutboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("전송 완료된 아웃박스 알림 정리: {}건", deleted);
+        }
+    }
+
+    public void signal(Long userId) {
+        AtomicInteger wakeup = wakeups.computeIfAbsent(userId, key -> new AtomicInteger());
+        if (wakeup.getAndIncrement() == 0) {
+            executor.execute(() -> drain(userId, wakeup));
+        }
+    }
+
+    private void drain(Long userId, AtomicInteger wakeup) {
+        int seen;
+        do {
+            seen = wakeup.get();
+            try {
+                deliverPending(userId);
+            } catch (Exception e) {
+                log.error("알림 전송 작업 실패 - userId: {}", userId, e);
+            }
+        } while (wakeup.addAndGet(-seen) > 0);
+    }
+
+    // 사용자의 대기 알림을 순서대로 전송 - 재시도를 기다리는 알림을 만나면 멈춤
+    private void deliverPending(Long userId) {
+        while (true) {
+            List<NotificationOutbox> pending = notificationOutboxRepository.findPendingByUserId(userId, Limit.of(batchSize));
+            LocalDateTime now = LocalDateTime.now();
+            for (NotificationOutbox outbox : pending) {
+                if (outbox.getNextAttemptAt().isAfter(now)) {
+                    return;
+                }
+                try {
+                    notificationOutboxService.deliver(outbox.getId());
+                } catch (Exception e) {
+                    log.warn("알림 전송 실패 - outboxId: {}, userId: {}, 사유: {}", outbox.getId(), userId, e.getMessage());
+                    if (notificationOutboxService.failed(outbox.getId(), e.getMessage())) {
+                        return;
+                    }
+                }
+            }
+            if (pending.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package com.petner.anidoc.domain.user.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petner.anidoc.domain.user.notification.entity.NotificationOutbox;
+import com.petner.anidoc.domain.user.notification.entity.NotificationType;
+import com.petner.anidoc.domain.user.notification.entity.OutboxStatus;
+import com.petner.anidoc.domain.user.notification.event.NotificationEnqueuedEvent;
+import com.petner.anidoc.domain.user.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * ✅ NotificationOutboxService
+ * - enqueue: 호출한 트랜잭션 안에서 아웃박스에 알림 기록 (알림 저장/SSE 전송은 하지 않음)
+ * - deliver/failed: 디스패처가 알림 한 건씩 별도 트랜잭션으로 전송/실패 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.backoff-ms:1000}")
+    private long backoffMs;
+
+    // 알림 기록 - 커밋되면 디스패처가 전송
+    @Transactional
+    public void enqueue(Long userId, NotificationType type, String content, Object data) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .userId(userId)
+                .type(type)
+                .content(content)
+                .payload(toJson(data))
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(userId));
+    }
+
+    // 알림 한 건 전송 (알림 저장, SSE 는 커밋 이후) - 이미 전송된 알림이면 false
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean deliver(Long outboxId) {
+        if (notificationOutboxRepository.markSent(outboxId) == 0) {
+            return false;
+        }
+        NotificationOutbox outbox = notificationOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 아웃박스 알림입니다."));
+        notificationService.notifyUser(outbox.getUserId(), outbox.getType(), outbox.getContent(), fromJson(outbox.getPayload()));
+        return true;
+    }
+
+    // 전송 실패 기록 - 재시도 간격은 실패할 때마다 두 배, 최대 횟수를 넘으면 FAILED 로 두고 다음 알림으로 진행
+    // 반환값: 아직 재시도할 알림이면 true
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean failed(Long outboxId, String error) {
+        NotificationOutbox outbox = notificationOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != OutboxStatus.PENDING) {
+            return false;
+        }
+        boolean retry = outbox.getAttempts() + 1 < maxAttempts;
+        LocalDateTime nextAttemptAt = retry
+                ? LocalDateTime.now().plus(Duration.ofMillis(backoffMs << Math.min(outbox.getAttempts(), 16)))
+                : null;
+        outbox.failed(error, nextAttemptAt);
+        if (!retry) {
+            log.error("알림 전송 포기 - outboxId: {}, userId: {}, 사유: {}", outboxId, outbox.getUserId(), error);
+        }
+        return retry;
+    }
+
+    private String toJson(Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 데이터를 변환할 수 없습니다.", e);
+        }
+    }
+
+    private JsonNode fromJson(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+}
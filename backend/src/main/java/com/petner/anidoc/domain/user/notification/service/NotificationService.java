@@ -1,26 +1,37 @@
 package com.petner.anidoc.domain.user.notification.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.petner.anidoc.domain.user.notification.dto.NotificationDto;
 import com.petner.anidoc.domain.user.notification.dto.PetInfoDto;
 import com.petner.anidoc.domain.user.notification.dto.VaccinationNotificationDto;
+import com.petner.anidoc.domain.user.notification.entity.BroadcastNotification;
+import com.petner.anidoc.domain.user.notification.entity.BroadcastReadMark;
 import com.petner.anidoc.domain.user.notification.entity.Notification;
 import com.petner.anidoc.domain.user.notification.entity.NotificationType;
+import com.petner.anidoc.domain.user.notification.repository.BroadcastNotificationRepository;
+import com.petner.anidoc.domain.user.notification.repository.BroadcastReadMarkRepository;
 import com.petner.anidoc.domain.user.notification.repository.NotificationRepository;
 import com.petner.anidoc.domain.user.notification.util.VaccinationNotificationHelper;
 import com.petner.anidoc.domain.user.user.entity.User;
-import com.petner.anidoc.domain.user.user.repository.UserRepository;
 import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
+import com.petner.anidoc.global.exception.CustomException;
+import com.petner.anidoc.global.exception.ErrorCode;
+import com.petner.anidoc.global.ut.TransactionUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -29,7 +40,9 @@ import java.util.stream.Collectors;
 public class NotificationService {
     private final SseEmitters sseEmitters;
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastReadMarkRepository broadcastReadMarkRepository;
+    private final BroadcastDeliveryService broadcastDeliveryService;
     private final VaccinationNotificationHelper vaccinationHelper;
     private final ReservationRepository reservationRepository;
 
@@ -58,59 +71,27 @@ public class NotificationService {
             sseData.put("data", data);
         }
 
-        sseEmitters.noti(userId, type.name().toLowerCase(), sseData);
+        // 여러 건을 묶은 알림(data 가 목록)은 '<타입>-batch' 이벤트로 전송 - 이벤트 이름마다 data 모양이 하나로 고정
+        String eventName = type.name().toLowerCase() + (isList(data) ? "-batch" : "");
+
+        // 알림이 커밋된 뒤에만 전송 (롤백된 알림이 먼저 나가지 않도록)
+        TransactionUtil.afterCommit(() -> sseEmitters.noti(userId, eventName, sseData));
     }
 
     //전체 사용자에게 알림 저장 및 전송 (공지사항)
+    // 사용자 수와 무관하게 전체 알림 한 행만 저장 - 목록/읽지 않은 수는 조회할 때 개인 알림과 합침 (반환값: 전체 알림 ID)
     @Transactional
-    public void notifyAll(NotificationType type, String content, Object data){
-        try {
-            // ⭐ 1단계: 모든 사용자에게 알림 저장 (토큰 상관없이)
-            List<User> allUsers = userRepository.findAll();
-
-            for (User user : allUsers) {
-                try {
-                    Notification notification = Notification.builder()
-                            .user(user)
-                            .type(type)
-                            .content(content)
-                            .isRead(false)
-                            .build();
-                    notificationRepository.save(notification);
-
-                } catch (Exception e) {
-                    log.error("사용자 {} 알림 저장 실패: {}", user.getId(), e.getMessage());
-                }
-            }
-
-            // ⭐ 2단계: 로그인한 사용자에게만 실시간 SSE 전송
-            List<User> activeUsers = allUsers.stream()
-                    .filter(user -> user.getRefreshToken() != null)
-                    .filter(user -> !user.getRefreshToken().isEmpty())
-                    .collect(Collectors.toList());
-
-
-            for (User activeUser : activeUsers) {
-                try {
-                    sseEmitters.noti(activeUser.getId(), type.name().toLowerCase(), data);
-
-                } catch (Exception e) {
-                    log.error("❌ 사용자 {} SSE 전송 실패: {}", activeUser.getId(), e.getMessage());
-                }
-            }
-
-
-        // 2. 전역 이벤트 발생 (페이지 새로고침용)
-            if (type == NotificationType.NOTICE) {
-                sseEmitters.noti("notice-refresh", data);
-            }
-
-        } catch (Exception e) {
-            log.error("notifyAll 처리 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("알림 처리 실패", e);
-        }
+    public Long notifyAll(NotificationType type, String content, Object data){
+        BroadcastNotification broadcast = broadcastNotificationRepository.save(BroadcastNotification.builder()
+                .type(type)
+                .content(content)
+                .build());
 
+        // 커밋된 뒤 접속 중인 사용자에게 실시간 전송 (요청 스레드와 분리, 전송 현황은 getDelivery 로 조회)
+        TransactionUtil.afterCommit(() -> broadcastDeliveryService.deliver(broadcast.getId(), type, data));
+        return broadcast.getId();
     }
+
     //content 1문장 요약 함수
     public String getSummary(String content){
         if(content == null) return "";
@@ -121,34 +102,83 @@ public class NotificationService {
         return content;
     }
 
-    //전체 목록 조회
+    //전체 목록 조회 - 개인 알림과 전체 알림을 최신순으로 합쳐서 페이징
     @Transactional
-    public Page<Notification> getNotifications(Long userId, Pageable pageable){
-        return notificationRepository.findAllByUserIdOrderByCreatedAtDesc(userId, pageable);
+    public Page<NotificationDto> getNotifications(Long userId, Pageable pageable){
+        int offset = (int) pageable.getOffset();
+        int needed = offset + pageable.getPageSize();
+
+        // 두 목록에서 각각 앞쪽 needed 개만 읽어 합치면 해당 페이지까지는 정확함
+        List<Notification> personal = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, Limit.of(needed));
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findVisible(userId, Limit.of(needed));
+        long lastReadId = getLastReadBroadcastId(userId);
+
+        List<NotificationDto> merged = new ArrayList<>(needed);
+        int p = 0;
+        int b = 0;
+        while (merged.size() < needed && (p < personal.size() || b < broadcasts.size())) {
+            boolean takePersonal = b >= broadcasts.size()
+                    || (p < personal.size() && !personal.get(p).getCreatedAt().isBefore(broadcasts.get(b).getCreatedAt()));
+            if (takePersonal) {
+                merged.add(NotificationDto.from(personal.get(p++)));
+            } else {
+                BroadcastNotification broadcast = broadcasts.get(b++);
+                merged.add(NotificationDto.from(broadcast, broadcast.getId() <= lastReadId));
+            }
+        }
+
+        long total = notificationRepository.countByUserId(userId) + broadcastNotificationRepository.countVisible(userId);
+        List<NotificationDto> content = merged.size() > offset ? merged.subList(offset, merged.size()) : List.of();
+        return new PageImpl<>(content, pageable, total);
     }
 
 
     //알림 읽음 처리(1개)
     @Transactional
-    public void markAsRead(Long notificationId){
+    public void markAsRead(Long userId, Long notificationId){
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 알림입니다."));
+        if (!notification.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.NO_NOTIFICATION_PERMISSION);
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
 
     }
 
+    //전체 알림 읽음 처리 - 읽음 위치를 해당 알림까지 옮김 (그 이전 전체 알림도 함께 읽음)
+    @Transactional
+    public void markBroadcastAsRead(Long userId, Long broadcastId){
+        if (!broadcastNotificationRepository.existsById(broadcastId)) {
+            throw new IllegalArgumentException("존재하지 않는 알림입니다.");
+        }
+        readBroadcastsUpTo(userId, broadcastId);
+    }
+
 
     //알림 읽음 처리(전체)
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> notifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
+        notificationRepository.markAllAsReadByUserId(userId);
+        broadcastNotificationRepository.findMaxVisibleId(userId)
+                .ifPresent(broadcastId -> readBroadcastsUpTo(userId, broadcastId));
+    }
 
-        //읽음 처리
-        notifications.forEach(Notification::markAsRead);
+    private void readBroadcastsUpTo(Long userId, Long broadcastId) {
+        BroadcastReadMark mark = broadcastReadMarkRepository.findByUserId(userId)
+                .orElseGet(() -> broadcastReadMarkRepository.save(BroadcastReadMark.builder()
+                        .userId(userId)
+                        .build()));
+        mark.readUpTo(broadcastId);
+    }
 
-        notificationRepository.saveAll(notifications);
+    private long getLastReadBroadcastId(Long userId) {
+        return broadcastReadMarkRepository.findLastReadIdByUserId(userId).orElse(0L);
+    }
 
+    // 아웃박스를 거친 데이터는 JsonNode 로 들어옴
+    private static boolean isList(Object data) {
+        return data instanceof Collection<?> || (data instanceof JsonNode node && node.isArray());
     }
 
     /**
@@ -187,7 +217,8 @@ public class NotificationService {
 
     // 읽지 않은 알림 개수 조회
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return notificationRepository.countByUserIdAndIsReadFalse(userId)
+                + broadcastNotificationRepository.countVisibleAfter(userId, getLastReadBroadcastId(userId));
     }
 }
 
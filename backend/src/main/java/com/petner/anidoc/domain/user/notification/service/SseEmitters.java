@@ -1,25 +1,117 @@
 package com.petner.anidoc.domain.user.notification.service;
 
-import com.petner.anidoc.domain.user.notification.repository.NotificationRepository;
+import com.petner.anidoc.domain.user.notification.dto.SseStatsDto;
+import com.petner.anidoc.domain.user.notification.util.DeliveryProgress;
+import com.petner.anidoc.domain.user.notification.util.SseEventRing;
 import com.petner.anidoc.domain.user.notification.util.Ut;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * ✅ SseEmitters
+ * - 사용자별 SSE 연결 관리
+ * - 연결마다 크기가 정해진 전송 큐를 두고 가상 스레드가 순서대로 비움
+ *   (noti 를 호출한 요청 스레드/트랜잭션은 큐에 넣기만 하고 바로 반환 - 느린 클라이언트가 업무 처리를 막지 않음)
+ * - 큐가 가득 차면 notification.sse.overflow 정책대로 처리
+ *   - DROP_OLDEST: 가장 오래된 이벤트를 버림
+ *   - COALESCE: 상태 이벤트(notification.sse.coalesce-events - 대시보드 카운터 등 최신 값만 의미 있는 이벤트)는
+ *     같은 이름의 대기 이벤트를 최신 데이터로 교체, 그 밖의 이벤트(개별 알림)는 버리지 않고 연결을 끊음
+ *     (클라이언트가 Last-Event-ID 로 다시 연결해 놓친 알림을 다시 받음)
+ *   - DISCONNECT: 느린 연결을 끊음 (클라이언트가 다시 연결)
+ * - 주기적으로 쉬고 있는 연결에 heartbeat 주석을 보내고, 전송이 오래 멈춘 연결은 정리
+ *   (끊긴 연결은 heartbeat 전송이 실패하면서 바로 빠짐 - 알림이 없어도 연결/메모리가 쌓이지 않음)
+ *   (멈춘 연결은 목록에서 바로 빼고 emitter 는 멈춘 전송이 끝난 뒤 전송 스레드에서 닫음 - heartbeat 주기가 밀리지 않음)
+ * - 같은 emitter 는 한 번만 등록하고, 사용자당 연결 수를 넘으면 가장 오래된 연결부터 닫음
+ * - 이벤트마다 계속 증가하는 ID 를 붙이고 사용자별/전체 이벤트를 최근 notification.sse.replay-size 개씩 보관
+ *   (재연결 시 Last-Event-ID 이후 이벤트만 다시 보냄 - 배포 후 재연결이 몰려도 알림 목록을 다시 조회하지 않아도 됨)
+ */
 @Component
 @Slf4j
 public class SseEmitters {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, COALESCE, DISCONNECT
+    }
+
     // Thread-safe한 Map<Long,List>를 사용하여 다중 클라이언트의 SSE 연결들을 관리
-    final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    final Map<Long, List<Connection>> emitters = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${notification.sse.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${notification.sse.overflow:COALESCE}")
+    private OverflowPolicy overflowPolicy;
+
+    // COALESCE 정책에서 최신 데이터로 교체해도 되는 이벤트 이름
+    @Value("${notification.sse.coalesce-events:dashboard,notice-refresh}")
+    private Set<String> coalesceEvents;
+
+    @Value("${notification.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    // 한 번의 전송이 이 시간보다 오래 걸리면 끊긴 연결로 보고 정리
+    @Value("${notification.sse.stall-timeout-ms:60000}")
+    private long stallTimeoutMs;
+
+    // 사용자별/전체 이벤트 보관 수
+    @Value("${notification.sse.replay-size:24}")
+    private int replaySize;
+
+    // 연결이 없는 사용자의 보관 이벤트를 이 시간 동안 새 이벤트가 없으면 정리
+    @Value("${notification.sse.replay-retention-ms:600000}")
+    private long replayRetentionMs;
+
+    private static final SseEvent HEARTBEAT = new SseEvent(0, "heartbeat", null, null);
+
+    // 이벤트 ID - 재시작 후에도 이전 ID 보다 커지도록 시작 시각에서 출발
+    // 이 프로세스가 발급하지 않은 ID(startEventId 이하 - 이전 프로세스, 현재 ID 초과 - 다른 인스턴스)로는 이어 받을 수 없음
+    private final long startEventId = System.currentTimeMillis() * 1000;
+    private final AtomicLong lastEventId = new AtomicLong(startEventId);
+
+    // 재전송용 보관 이벤트 (각 링은 자기 자신으로 동기화)
+    private final Map<Long, SseEventRing> rings = new ConcurrentHashMap<>();
+    private SseEventRing broadcastRing;
+    private volatile long discardedUpTo = startEventId; // 정리한 사용자 링의 마지막 이벤트 ID 중 최댓값 (처음에는 시작 ID)
+
+    // 사용자 이벤트는 읽기 잠금 + 사용자 링, 전체 이벤트는 쓰기 잠금
+    // (ID 발급과 큐 적재를 같은 잠금 안에서 해서 연결마다 ID 순서대로 전송되도록 함)
+    private final ReadWriteLock replayLock = new ReentrantReadWriteLock();
+
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder coalescedEvents = new LongAdder();
+    private final LongAdder disconnectedSlow = new LongAdder();
+    private final LongAdder failedSends = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+    private final LongAdder reapedConnections = new LongAdder();
+    private final LongAdder evictedOverCap = new LongAdder();
+    private final LongAdder duplicateRegistrations = new LongAdder();
+    private final LongAdder resumedConnections = new LongAdder();
+    private final LongAdder resyncConnections = new LongAdder();
+    private final LongAdder replayedEvents = new LongAdder();
+
     public int getEmitterCount() {
         return emitters.size();
     }
@@ -32,34 +124,149 @@ public class SseEmitters {
         return emitters.isEmpty();
     }
 
-    private final NotificationRepository notificationRepository;
+    // 새로운 SSE 연결을 추가하고 관련 콜백을 설정하는 메서드
+    public SseEmitter add(Long userId, SseEmitter emitter) {
+        replayLock.readLock().lock();
+        try {
+            register(userId, emitter);
+        } finally {
+            replayLock.readLock().unlock();
+        }
+        return emitter;
+    }
 
-    public SseEmitters(NotificationRepository notificationRepository) {
-        this.notificationRepository = notificationRepository;
+    /**
+     * 연결을 추가하고 첫 이벤트(eventName)를 보낸 뒤 lastEventId 이후 놓친 이벤트를 다시 보냄
+     * - 첫 이벤트 데이터에 resumed(놓친 이벤트를 모두 다시 보냈는지)를 붙임
+     * - resumed 가 false 면 (처음 연결이거나 보관 범위를 벗어남) 클라이언트가 알림 목록을 다시 조회
+     */
+    public SseEmitter add(Long userId, SseEmitter emitter, Long lastEventId, String eventName, Map<String, Object> data) {
+        replayLock.readLock().lock();
+        try {
+            SseEventRing ring = ring(userId);
+            synchronized (ring) {
+                ring.touch();
+                Connection connection = register(userId, emitter);
+                if (connection == null) {
+                    return emitter;
+                }
+                boolean resumed = canResume(ring, lastEventId);
+                Map<String, Object> connectData = new HashMap<>(data);
+                connectData.put("resumed", resumed);
+                connection.enqueue(0, eventName, connectData);
+                if (resumed) {
+                    resumedConnections.increment();
+                    replay(connection, ring, lastEventId);
+                } else if (lastEventId != null) {
+                    resyncConnections.increment();
+                }
+            }
+        } finally {
+            replayLock.readLock().unlock();
+        }
+        return emitter;
     }
 
-    // 새로운 SSE 연결을 추가하고 관련 콜백을 설정하는 메서드
-    public SseEmitter add(Long userId, SseEmitter emitter) {
-        emitters.computeIfAbsent(userId, k-> new CopyOnWriteArrayList<>()).add(emitter);
+    // lastEventId 이후 이벤트를 모두 보관하고 있는지 (연결 전에 알림 개수 조회가 필요한지 판단)
+    public boolean canResume(Long userId, Long lastEventId) {
+        replayLock.readLock().lock();
+        try {
+            SseEventRing ring = rings.get(userId);
+            if (ring == null) {
+                // 이 인스턴스에서 보낸 이벤트가 없거나 정리됨
+                return issuedHere(lastEventId) && broadcastRing().covers(lastEventId) && lastEventId >= discardedUpTo;
+            }
+            synchronized (ring) {
+                return canResume(ring, lastEventId);
+            }
+        } finally {
+            replayLock.readLock().unlock();
+        }
+    }
 
-        // 클라이언트와의 연결이 완료되면 컬렉션에서 제거하는 콜백
-        emitter.onCompletion(() -> {
-            List<SseEmitter> list = this.emitters.get(userId);
-            if (list != null) list.remove(emitter);
+    // 잠금 안에서 호출 - 이미 등록된 emitter 면 null
+    private Connection register(Long userId, SseEmitter emitter) {
+        Connection connection = new Connection(userId, emitter);
+        List<Connection> evicted = new ArrayList<>();
+        boolean[] duplicate = {false};
+        emitters.compute(userId, (key, connections) -> {
+            List<Connection> list = connections != null ? connections : new CopyOnWriteArrayList<>();
+            if (list.stream().anyMatch(existing -> existing.emitter == emitter)) {
+                duplicate[0] = true; // 이미 등록된 emitter
+                return list;
+            }
+            list.add(connection);
+            // 사용자당 연결 수 초과 - 가장 오래된 연결부터 닫음 (새로고침/탭 누수 등)
+            while (list.size() > maxConnectionsPerUser) {
+                evicted.add(list.remove(0));
+            }
+            return list;
         });
+        if (duplicate[0]) {
+            duplicateRegistrations.increment();
+            return null;
+        }
+        for (Connection old : evicted) {
+            evictedOverCap.increment();
+            old.terminate();
+        }
 
-        // 연결이 타임아웃되면 완료 처리하는 콜백
-        emitter.onTimeout(() -> {
-            List<SseEmitter> list = this.emitters.get(userId);
-            if (list != null) list.remove(emitter);
-        });
+        // 클라이언트와의 연결이 완료/타임아웃/오류가 나면 컬렉션에서 제거하는 콜백
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
 
-        emitter.onError(e -> {
-            List<SseEmitter> list = this.emitters.get(userId);
-            if (list != null) list.remove(emitter);
-        });
+        return connection;
+    }
 
-        return emitter;
+    // 링 잠금 안에서 호출
+    private boolean canResume(SseEventRing ring, Long lastEventId) {
+        return issuedHere(lastEventId) && broadcastRing().covers(lastEventId) && ring.covers(lastEventId);
+    }
+
+    // 이 프로세스가 발급한 ID 인지
+    private boolean issuedHere(Long eventId) {
+        return eventId != null && eventId > startEventId && eventId <= lastEventId.get();
+    }
+
+    // 사용자 이벤트와 전체 이벤트를 ID 순서대로 합쳐서 큐에 넣음
+    private void replay(Connection connection, SseEventRing ring, long lastEventId) {
+        List<SseEvent> missed = new ArrayList<>();
+        broadcastRing().forEachAfter(lastEventId, (id, name, data) -> missed.add(new SseEvent(id, name, data, null)));
+        ring.forEachAfter(lastEventId, (id, name, data) -> missed.add(new SseEvent(id, name, data, null)));
+        missed.sort((a, b) -> Long.compare(a.id(), b.id()));
+        for (SseEvent event : missed) {
+            connection.enqueue(event.id(), event.name(), event.data());
+        }
+        replayedEvents.add(missed.size());
+    }
+
+    // 읽기/쓰기 잠금 안에서 호출 - 정리된 적이 있으면 그 이전 이벤트는 없는 것으로 시작
+    private SseEventRing ring(Long userId) {
+        return rings.computeIfAbsent(userId, key -> new SseEventRing(replaySize, discardedUpTo));
+    }
+
+    private SseEventRing broadcastRing() {
+        SseEventRing ring = broadcastRing;
+        if (ring == null) {
+            synchronized (this) {
+                if (broadcastRing == null) {
+                    broadcastRing = new SseEventRing(replaySize, startEventId);
+                }
+                ring = broadcastRing;
+            }
+        }
+        return ring;
+    }
+
+    // 특정 연결 하나에만 이벤트 전송 (연결 직후 초기 이벤트 등)
+    public void send(Long userId, SseEmitter emitter, String eventName, Object data) {
+        List<Connection> connections = emitters.get(userId);
+        if (connections != null) {
+            connections.stream()
+                    .filter(connection -> connection.emitter == emitter)
+                    .forEach(connection -> connection.enqueue(0, eventName, data));
+        }
     }
 
 
@@ -70,67 +277,345 @@ public class SseEmitters {
 
     // 모든 연결된 클라이언트들에게 이벤트를 전송하는 메서드
     public void noti(String eventName, Object data) {
-        if (emitters.isEmpty()) {
-            return;
+        noti(eventName, data, null);
+    }
+
+    // progress 가 있으면 연결마다 전송 성공/실패를 집계 (전체 알림 전송 현황)
+    public void noti(String eventName, Object data, DeliveryProgress progress) {
+        replayLock.writeLock().lock();
+        try {
+            long id = lastEventId.incrementAndGet();
+            broadcastRing().add(id, eventName, data);
+            emitters.values().forEach(connections -> connections.forEach(connection -> {
+                if (progress != null) {
+                    progress.target();
+                }
+                connection.enqueue(id, eventName, data, progress);
+            }));
+        } finally {
+            replayLock.writeLock().unlock();
         }
-        // 모든 emitter에 대해 반복하며 이벤트 전송
-        emitters.forEach((userId, emitterList) -> {
-            List<SseEmitter> deadEmitters = new ArrayList<>();
-            for (SseEmitter emitter : emitterList) {
-                try {
-                    emitter.send(
-                            SseEmitter.event()
-                                    .name(eventName)    // 이벤트 이름 설정
-                                    .data(data)         // 전송할 데이터 설정
-                    );
-                } catch (ClientAbortException e) {
-                    deadEmitters.add(emitter);
-                } catch (IOException e) {
-                    log.error("❌ 사용자 {} SSE 전송 실패 (Broken pipe): {}", userId, e.getMessage());
-                    deadEmitters.add(emitter); // ⭐ 실패한 emitter도 제거
-                } catch (Exception e) { // ⭐ 모든 예외 처리
-                    log.error("❌ 사용자 {} SSE 전송 중 예외: {}", userId, e.getMessage());
-                    deadEmitters.add(emitter);
-                }
-            }
-            emitterList.removeAll(deadEmitters);
-        });
-        log.info("=== 전역 SSE 이벤트 발생 완료 ===");
+        if (progress != null) {
+            progress.dispatched();
+        }
+        log.info("=== 전역 SSE 이벤트 등록 완료 ===");
     }
 
 
-    // 특정 사용자에게만 알림
+    // 특정 사용자에게만 알림 (연결이 없어도 보관해 두었다가 재연결 시 다시 보냄)
     public void noti(Long userId, String eventName, Object data) {
-        // userId의 SSE 연결 리스트 가져오기
-        List<SseEmitter> userEmitters = emitters.get(userId);
-
-        //해당하는 리스트의 emitter 에게 SSE방식으로 데이터 전송
-        if(userEmitters != null){
-            List<SseEmitter> deadEmitters = new ArrayList<>();
-            for(SseEmitter emitter : userEmitters){
-                try{
-                    emitter.send(
-                            SseEmitter.event()
-                                    .name(eventName)
-                                    .data(data)
-                    );
-                }catch (ClientAbortException e){
-                    deadEmitters.add(emitter);
-                }catch (IOException e) {
-                    log.debug("SSE 연결 끊어짐 - userId: {}, 메시지: {}", userId, e.getMessage());
-                    deadEmitters.add(emitter);
+        replayLock.readLock().lock();
+        try {
+            SseEventRing ring = ring(userId);
+            synchronized (ring) {
+                long id = lastEventId.incrementAndGet();
+                ring.add(id, eventName, data);
+                List<Connection> connections = emitters.get(userId);
+                if (connections != null) {
+                    connections.forEach(connection -> connection.enqueue(id, eventName, data));
                 }
             }
-            userEmitters.removeAll(deadEmitters);
+        } finally {
+            replayLock.readLock().unlock();
         }
     }
+
     public void remove(Long userId, SseEmitter emitter) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters != null) {
-            userEmitters.remove(emitter);
-            if (userEmitters.isEmpty()) {
-                emitters.remove(userId);
+        List<Connection> connections = emitters.get(userId);
+        if (connections != null) {
+            connections.stream()
+                    .filter(connection -> connection.emitter == emitter)
+                    .forEach(Connection::close);
+        }
+    }
+
+    // heartbeat 전송 + 멈춘 연결 정리
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        List<Connection> stalled = new ArrayList<>();
+        for (List<Connection> connections : emitters.values()) {
+            for (Connection connection : connections) {
+                if (connection.stalledSince(now) > stallTimeoutMs) {
+                    stalled.add(connection);
+                } else {
+                    connection.heartbeat();
+                }
+            }
+        }
+        for (Connection connection : stalled) {
+            reapedConnections.increment();
+            log.info("SSE 전송이 멈춘 연결 정리 - userId: {}", connection.userId);
+            connection.terminate();
+        }
+        discardIdleRings(now);
+    }
+
+    // 연결이 없고 한동안 새 이벤트가 없는 사용자의 보관 이벤트 정리
+    // (정리한 사용자는 discardedUpTo 이전 ID 로 재연결하면 목록을 다시 조회하도록 함)
+    private void discardIdleRings(long now) {
+        replayLock.writeLock().lock();
+        try {
+            rings.entrySet().removeIf(entry -> {
+                SseEventRing ring = entry.getValue();
+                if (emitters.containsKey(entry.getKey()) || now - ring.lastUsedAt() <= replayRetentionMs) {
+                    return false;
+                }
+                discardedUpTo = Math.max(discardedUpTo, ring.lastId());
+                return true;
+            });
+        } finally {
+            replayLock.writeLock().unlock();
+        }
+    }
+
+    // 연결/큐 현황
+    public SseStatsDto getStats() {
+        int connectionCount = 0;
+        long queued = 0;
+        int maxDepth = 0;
+        for (List<Connection> connections : emitters.values()) {
+            for (Connection connection : connections) {
+                int depth = connection.depth();
+                connectionCount++;
+                queued += depth;
+                maxDepth = Math.max(maxDepth, depth);
+            }
+        }
+        return SseStatsDto.builder()
+                .users(emitters.size())
+                .connections(connectionCount)
+                .queuedEvents(queued)
+                .maxQueueDepth(maxDepth)
+                .queueCapacity(queueCapacity)
+                .overflowPolicy(overflowPolicy.name())
+                .sentEvents(sentEvents.sum())
+                .droppedEvents(droppedEvents.sum())
+                .coalescedEvents(coalescedEvents.sum())
+                .disconnectedSlow(disconnectedSlow.sum())
+                .failedSends(failedSends.sum())
+                .heartbeats(heartbeats.sum())
+                .reapedConnections(reapedConnections.sum())
+                .evictedOverCap(evictedOverCap.sum())
+                .duplicateRegistrations(duplicateRegistrations.sum())
+                .bufferedUsers(rings.size())
+                .replaySize(replaySize)
+                .resumedConnections(resumedConnections.sum())
+                .resyncConnections(resyncConnections.sum())
+                .replayedEvents(replayedEvents.sum())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // id 가 0 이면 ID 없이 전송 (연결 이벤트, heartbeat), progress 는 전송 결과를 집계할 때만
+    private record SseEvent(long id, String name, Object data, DeliveryProgress progress) {
+
+        void sent() {
+            if (progress != null) {
+                progress.sent();
+            }
+        }
+
+        void failed() {
+            if (progress != null) {
+                progress.failed();
+            }
+        }
+    }
+
+    // 연결 하나 - 큐와 전송 작업 상태는 this 로 동기화
+    final class Connection {
+        final Long userId;
+        final SseEmitter emitter;
+        private final ArrayDeque<SseEvent> queue = new ArrayDeque<>();
+        private boolean draining; // 전송 작업이 돌고 있으면 true
+        private boolean closed;
+        private boolean completing; // emitter 종료 요청됨 - 전송 작업이 돌고 있으면 그 작업이 끝날 때 닫음
+        private volatile long sendingSince; // 전송 중이면 시작 시각, 아니면 0
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(long id, String name, Object data) {
+            enqueue(id, name, data, null);
+        }
+
+        void enqueue(long id, String name, Object data, DeliveryProgress progress) {
+            SseEvent queued = new SseEvent(id, name, data, progress);
+            boolean startDrain = false;
+            boolean disconnect = false;
+            synchronized (this) {
+                if (closed) {
+                    queued.failed();
+                    return;
+                }
+                if (queue.size() >= queueCapacity) {
+                    switch (overflowPolicy) {
+                        case DISCONNECT -> {
+                            disconnectedSlow.increment();
+                            closeLocked();
+                            queued.failed();
+                            disconnect = true;
+                        }
+                        case COALESCE -> {
+                            if (coalesceEvents.contains(name) && replace(queued)) {
+                                coalescedEvents.increment();
+                                return;
+                            }
+                            // 개별 알림은 버리면 이후 ID 가 앞서가 재연결로도 되찾을 수 없음 - 연결을 끊음
+                            disconnectedSlow.increment();
+                            closeLocked();
+                            queued.failed();
+                            disconnect = true;
+                        }
+                        case DROP_OLDEST -> {
+                            queue.pollFirst().failed();
+                            droppedEvents.increment();
+                        }
+                    }
+                }
+                if (!disconnect) {
+                    queue.addLast(queued);
+                    if (!draining) {
+                        draining = true;
+                        startDrain = true;
+                    }
+                }
+            }
+            if (disconnect) {
+                log.warn("SSE 전송 큐 초과로 연결 종료 - userId: {}", userId);
+                terminate();
+            } else if (startDrain) {
+                executor.execute(this::drain);
+            }
+        }
+
+        // 큐가 빌 때까지 순서대로 전송
+        private void drain() {
+            while (true) {
+                SseEvent event;
+                boolean complete = false;
+                synchronized (this) {
+                    event = closed ? null : queue.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        complete = completing;
+                    }
+                }
+                if (event == null) {
+                    if (complete) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                sendingSince = System.currentTimeMillis();
+                try {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        heartbeats.increment();
+                    } else {
+                        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                                .name(event.name())    // 이벤트 이름 설정
+                                .data(event.data());   // 전송할 데이터 설정
+                        if (event.id() != 0) {
+                            builder.id(String.valueOf(event.id())); // 재연결 시 Last-Event-ID 로 돌아옴
+                        }
+                        emitter.send(builder);
+                        sentEvents.increment();
+                        event.sent();
+                    }
+                } catch (Exception e) {
+                    failedSends.increment();
+                    event.failed();
+                    log.debug("SSE 연결 끊어짐 - userId: {}, 메시지: {}", userId, e.getMessage());
+                    close();
+                } finally {
+                    sendingSince = 0;
+                }
+            }
+        }
+
+        // 같은 이름의 대기 이벤트 중 가장 최근 것을 새 데이터로 교체
+        private boolean replace(SseEvent event) {
+            Iterator<SseEvent> iterator = queue.descendingIterator();
+            while (iterator.hasNext()) {
+                SseEvent old = iterator.next();
+                if (old.name().equals(event.name())) {
+                    iterator.remove();
+                    old.failed();
+                    queue.addLast(event);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 쉬고 있는 연결에만 heartbeat (전송 중이면 그 전송이 연결 상태를 확인해 줌)
+        void heartbeat() {
+            synchronized (this) {
+                if (closed || draining) {
+                    return;
+                }
+                queue.addLast(HEARTBEAT);
+                draining = true;
+            }
+            executor.execute(this::drain);
+        }
+
+        // 현재 전송이 멈춰 있는 시간 (전송 중이 아니면 0)
+        long stalledSince(long now) {
+            long since = sendingSince;
+            return since == 0 ? 0 : now - since;
+        }
+
+        synchronized int depth() {
+            return queue.size();
+        }
+
+        synchronized void close() {
+            closeLocked();
+        }
+
+        // 연결을 목록에서 빼고 emitter 를 닫음 - 호출한 스레드(스케줄러, 요청, 이벤트 발행)는 기다리지 않음
+        // complete() 는 진행 중인 send() 와 같은 잠금을 기다리므로, 전송 중이면 그 전송이 끝난 뒤 전송 스레드에서 닫음
+        void terminate() {
+            boolean completeNow;
+            synchronized (this) {
+                closeLocked();
+                if (completing) {
+                    return;
+                }
+                completing = true;
+                completeNow = !draining;
+            }
+            if (completeNow) {
+                executor.execute(emitter::complete);
+            }
+        }
+
+        private void closeLocked() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.forEach(SseEvent::failed); // 보내지 못한 이벤트
+            queue.clear();
+            // 연결이 끊긴 시점부터 보관 기간을 셈
+            SseEventRing ring = rings.get(userId);
+            if (ring != null) {
+                ring.touch();
             }
+            // 마지막 연결이면 사용자 항목도 제거
+            emitters.computeIfPresent(userId, (key, connections) -> {
+                connections.remove(this);
+                return connections.isEmpty() ? null : connections;
+            });
         }
     }
 }
@@ -0,0 +1,64 @@
+package com.petner.anidoc.domain.user.notification.util;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 알림 한 건의 실시간 전송 진행 상황 (이 인스턴스에 연결된 클라이언트 기준)
+ * - 대상 연결마다 전송 성공(sent) 또는 실패(failed) 중 하나로 한 번만 집계
+ *   (실패: 전송 오류, 큐 초과로 버려지거나 연결이 끊겨 대기 중에 사라진 경우)
+ * - 연결이 없던 사용자는 대상이 아님 - 알림 목록을 조회할 때 전체 알림이 합쳐지므로 놓치지 않음
+ */
+public class DeliveryProgress {
+
+    private final Long broadcastId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicInteger targets = new AtomicInteger();
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile boolean dispatched; // 모든 연결의 큐에 넣었으면 true (이후 대상 수가 늘지 않음)
+
+    public DeliveryProgress(Long broadcastId) {
+        this.broadcastId = broadcastId;
+    }
+
+    public void target() {
+        targets.incrementAndGet();
+    }
+
+    public void dispatched() {
+        dispatched = true;
+    }
+
+    public void sent() {
+        sent.incrementAndGet();
+    }
+
+    public void failed() {
+        failed.incrementAndGet();
+    }
+
+    public Long getBroadcastId() {
+        return broadcastId;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public int getTargets() {
+        return targets.get();
+    }
+
+    public int getSent() {
+        return sent.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public boolean isDone() {
+        return dispatched && sent.get() + failed.get() >= targets.get();
+    }
+}
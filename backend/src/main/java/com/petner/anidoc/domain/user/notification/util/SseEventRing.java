@@ -0,0 +1,81 @@
+package com.petner.anidoc.domain.user.notification.util;
+
+/**
+ * SSE 이벤트 재전송용 링 버퍼
+ * - 최근 이벤트 capacity 개를 ID 순서대로 배열에 보관 (가득 차면 가장 오래된 것부터 덮어씀)
+ * - evictedUpTo: 덮어써서 잃어버린 마지막 이벤트 ID - 이보다 앞에서 끊긴 클라이언트는 재전송만으로 복구 불가
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금 필요 (lastUsedAt 제외)
+ */
+public class SseEventRing {
+
+    private final long[] ids;
+    private final String[] names;
+    private final Object[] data;
+    private int start;
+    private int size;
+    private long evictedUpTo;
+    private volatile long lastUsedAt = System.currentTimeMillis();
+
+    // evictedUpTo: 이 링을 만들기 전에 이미 잃어버린 이벤트가 있으면 그 마지막 ID
+    public SseEventRing(int capacity, long evictedUpTo) {
+        this.evictedUpTo = evictedUpTo;
+        ids = new long[capacity];
+        names = new String[capacity];
+        data = new Object[capacity];
+    }
+
+    // ID 는 이전에 넣은 것보다 커야 함
+    public void add(long id, String name, Object value) {
+        int index;
+        if (size == ids.length) {
+            evictedUpTo = ids[start];
+            index = start;
+            start = (start + 1) % ids.length;
+        } else {
+            index = (start + size) % ids.length;
+            size++;
+        }
+        ids[index] = id;
+        names[index] = name;
+        data[index] = value;
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    // lastId 이후 이벤트를 다 갖고 있으면 true
+    public boolean covers(long lastId) {
+        return lastId >= evictedUpTo;
+    }
+
+    // lastId 이후 이벤트를 오래된 순서로
+    public void forEachAfter(long lastId, Entry consumer) {
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % ids.length;
+            if (ids[index] > lastId) {
+                consumer.accept(ids[index], names[index], data[index]);
+            }
+        }
+    }
+
+    // 가장 최근 이벤트 ID (비어 있으면 evictedUpTo)
+    public long lastId() {
+        return size == 0 ? evictedUpTo : ids[(start + size - 1) % ids.length];
+    }
+
+    // 마지막으로 이벤트를 넣거나 연결이 바뀐 시각 - 오래 쓰지 않은 링 정리에 사용
+    public long lastUsedAt() {
+        return lastUsedAt;
+    }
+
+    public void touch() {
+        lastUsedAt = System.currentTimeMillis();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(long id, String name, Object data);
+    }
+}
@@ -1,28 +1,48 @@
 package com.petner.anidoc.domain.user.pet.service;
 
+import com.petner.anidoc.domain.statistics.service.ClosedPeriodStatCache;
+import com.petner.anidoc.domain.statistics.service.DailyVisitRollupService;
+import com.petner.anidoc.domain.statistics.service.DashboardStatsCache;
 import com.petner.anidoc.domain.user.pet.dto.DoctorPetRequestDTO;
 import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
 import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.vet.reservation.service.ReservationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class DoctorPetRegistService {
     private final PetRepository petRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DailyVisitRollupService dailyVisitRollupService;
+    private final ClosedPeriodStatCache closedPeriodStatCache;
+    private final ReservationService reservationService;
 
-    public DoctorPetRegistService(PetRepository petRepository) {
+    public DoctorPetRegistService(PetRepository petRepository, DashboardStatsCache dashboardStatsCache,
+                                  DailyVisitRollupService dailyVisitRollupService, ClosedPeriodStatCache closedPeriodStatCache,
+                                  ReservationService reservationService) {
         this.petRepository = petRepository;
+        this.reservationService = reservationService;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.dailyVisitRollupService = dailyVisitRollupService;
+        this.closedPeriodStatCache = closedPeriodStatCache;
     }
 
     @Transactional
     public Pet updatePet(Long petId, DoctorPetRequestDTO dto) {
         Pet pet = petRepository.findByIdWithOwnerAndMedicalRecords(petId)
                 .orElseThrow(() -> new EntityNotFoundException("반려동물을 찾을수없어요"));
+        String previousSpecies = pet.getSpecies();
         pet.updatePet(dto);
+        // 종이 바뀌면 지난 기간의 동물별 통계도 달라짐
+        if (!Objects.equals(previousSpecies, pet.getSpecies())) {
+            closedPeriodStatCache.invalidateMetric(ClosedPeriodStatCache.ANIMAL_TYPE);
+        }
         return petRepository.save(pet);
     }
 
@@ -43,7 +63,10 @@ public class DoctorPetRegistService {
     public void deletePet(Long petId) {
         Pet pet = petRepository.findById(petId)
                 .orElseThrow(() -> new EntityNotFoundException("반려동물을 찾을 수 없습니다."));
+        dailyVisitRollupService.removePet(pet); // 진료기록도 함께 삭제되므로 방문 집계에서 제외
+        reservationService.releaseDeletedReservations(pet.getReservations()); // 예약도 함께 삭제되므로 슬롯 해제
         petRepository.delete(pet);
+        dashboardStatsCache.evictPet(pet.getOwner().getId());
     }
 }
 
@@ -1,23 +1,38 @@
 package com.petner.anidoc.domain.user.pet.service;
 
+import com.petner.anidoc.domain.statistics.service.ClosedPeriodStatCache;
+import com.petner.anidoc.domain.statistics.service.DailyVisitRollupService;
+import com.petner.anidoc.domain.statistics.service.DashboardStatsCache;
 import com.petner.anidoc.domain.user.pet.dto.OwnerPetRequestDTO;
 import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
 import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.vet.reservation.service.ReservationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class OwnerPetRegistService {
 
     private final PetRepository petRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DailyVisitRollupService dailyVisitRollupService;
+    private final ClosedPeriodStatCache closedPeriodStatCache;
+    private final ReservationService reservationService;
 
-    public OwnerPetRegistService(PetRepository petRepository) {
+    public OwnerPetRegistService(PetRepository petRepository, DashboardStatsCache dashboardStatsCache,
+                                 DailyVisitRollupService dailyVisitRollupService, ClosedPeriodStatCache closedPeriodStatCache,
+                                 ReservationService reservationService) {
         this.petRepository = petRepository;
+        this.reservationService = reservationService;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.dailyVisitRollupService = dailyVisitRollupService;
+        this.closedPeriodStatCache = closedPeriodStatCache;
     }
 
     //등록
@@ -38,7 +53,9 @@ public class OwnerPetRegistService {
                 .specialNote(ownerPetRequestdto.getSpecialNote())
                 .build();
 
-        return petRepository.save(pet);
+        Pet savedPet = petRepository.save(pet);
+        dashboardStatsCache.evictPet(owner.getId());
+        return savedPet;
     }
 
     //수정
@@ -51,7 +68,12 @@ public class OwnerPetRegistService {
             throw new RuntimeException("수정 권한이 없습니다.");
         }
 
+        String previousSpecies = pet.getSpecies();
         pet.updatePet(dto);
+        // 종이 바뀌면 지난 기간의 동물별 통계도 달라짐
+        if (!Objects.equals(previousSpecies, pet.getSpecies())) {
+            closedPeriodStatCache.invalidateMetric(ClosedPeriodStatCache.ANIMAL_TYPE);
+        }
         return pet;
     }
     //전체 조회
@@ -79,6 +101,9 @@ public class OwnerPetRegistService {
         if (!pet.getOwner().getId().equals(owner.getId())) {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
+        dailyVisitRollupService.removePet(pet); // 진료기록도 함께 삭제되므로 방문 집계에서 제외
+        reservationService.releaseDeletedReservations(pet.getReservations()); // 예약도 함께 삭제되므로 슬롯 해제
         petRepository.delete(pet);
+        dashboardStatsCache.evictPet(owner.getId());
     }
 }
@@ -0,0 +1,39 @@
+package com.petner.anidoc.domain.user.user.dto;
+
+import com.petner.anidoc.domain.user.user.entity.ApprovalStatus;
+import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.user.user.entity.UserRole;
+import com.petner.anidoc.domain.user.user.entity.UserStatus;
+
+// 관리자/의료진 디렉터리 항목 (조회에 필요한 값만 보관)
+public record StaffDirectoryEntry(
+        Long id,
+        String name,
+        String email,
+        String phoneNumber,
+        UserRole role,
+        ApprovalStatus approvalStatus,
+        UserStatus status,
+        Long vetId
+) {
+    public static StaffDirectoryEntry from(User user) {
+        return new StaffDirectoryEntry(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getPhoneNumber(),
+                user.getRole(),
+                user.getApprovalStatus(),
+                user.getStatus(),
+                user.getVetInfo() != null ? user.getVetInfo().getId() : null
+        );
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ROLE_ADMIN;
+    }
+
+    public boolean isStaff() {
+        return role == UserRole.ROLE_STAFF;
+    }
+}
@@ -27,4 +27,14 @@ public class StaffResponseDto {
                 .status(user.getStatus())
                 .build();
     }
+
+    public static StaffResponseDto fromEntry(StaffDirectoryEntry entry) {
+        return StaffResponseDto.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .email(entry.email())
+                .phoneNumber(entry.phoneNumber())
+                .status(entry.status())
+                .build();
+    }
 }
\ No newline at end of file
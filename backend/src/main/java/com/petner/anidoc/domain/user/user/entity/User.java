@@ -2,6 +2,7 @@ package com.petner.anidoc.domain.user.user.entity;
 
 import com.petner.anidoc.domain.user.notification.entity.Notification;
 import com.petner.anidoc.domain.user.pet.entity.Pet;
+import com.petner.anidoc.domain.user.user.event.UserChangeListener;
 import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
 import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
 import com.petner.anidoc.global.jpa.BaseEntity;
@@ -26,6 +27,7 @@ import java.util.List;
 @ToString(exclude = "password")
 @Table(name = "users")
 @DynamicUpdate
+@EntityListeners(UserChangeListener.class)
 public class User extends BaseEntity implements UserDetails {
 
 
@@ -0,0 +1,30 @@
+package com.petner.anidoc.domain.user.user.event;
+
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
+import com.petner.anidoc.domain.user.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 엔티티 리스너 - 어떤 경로로 저장/수정/삭제되든 UserChangedEvent 발행
+ * (Hibernate 가 스프링 빈으로 생성하므로 생성자 주입 사용)
+ */
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), StaffDirectoryEntry.from(user)));
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), null));
+    }
+}
@@ -0,0 +1,18 @@
+package com.petner.anidoc.domain.user.user.event;
+
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자 생성/수정/삭제 이벤트
+ * - entry: 변경 후 값 (삭제 시 null)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class UserChangedEvent {
+    private final Long userId;
+    private final StaffDirectoryEntry entry;
+}
@@ -1,5 +1,6 @@
 package com.petner.anidoc.domain.user.user.repository;
 
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
 import com.petner.anidoc.domain.user.user.entity.ApprovalStatus;
 import com.petner.anidoc.domain.user.user.entity.User;
 import com.petner.anidoc.domain.user.user.entity.UserRole;
@@ -7,6 +8,7 @@ import com.petner.anidoc.domain.user.user.entity.UserStatus;
 import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +36,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByRoleAndApprovalStatusAndStatusIn(UserRole role, ApprovalStatus approvalStatus, List<UserStatus> statuses);
 
+    // 관리자/의료진 디렉터리 적재용
+    @Query("SELECT new com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry("
+            + "u.id, u.name, u.email, u.phoneNumber, u.role, u.approvalStatus, u.status, v.id)"
+            + " FROM User u LEFT JOIN u.vetInfo v WHERE u.role IN :roles")
+    List<StaffDirectoryEntry> findDirectoryEntriesByRoleIn(@Param("roles") Collection<UserRole> roles);
+
+    // 소속 병원 ID (소속 병원이 없으면 빈 값)
+    @Query("SELECT v.id FROM User u JOIN u.vetInfo v WHERE u.id = :userId")
+    Optional<Long> findVetIdById(@Param("userId") Long userId);
+
+    // 병원별 역할 사용자 ID (vetId 가 null 이면 소속 병원이 없는 사용자)
+    @Query("SELECT u.id FROM User u LEFT JOIN u.vetInfo v WHERE u.role = :role"
+            + " AND ((:vetId IS NULL AND v.id IS NULL) OR v.id = :vetId)")
+    List<Long> findIdsByRoleAndVetId(@Param("role") UserRole role, @Param("vetId") Long vetId);
+
 }
 
 
@@ -0,0 +1,160 @@
+package com.petner.anidoc.domain.user.user.service;
+
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
+import com.petner.anidoc.domain.user.user.entity.ApprovalStatus;
+import com.petner.anidoc.domain.user.user.entity.UserRole;
+import com.petner.anidoc.domain.user.user.entity.UserStatus;
+import com.petner.anidoc.domain.user.user.event.UserChangedEvent;
+import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ StaffDirectory
+ * - 관리자/의료진(역할, 승인 상태, 근무 상태, 소속 병원)을 메모리에 유지
+ * - 사용자 저장/수정/삭제가 커밋되면 해당 사용자만 반영 (UserChangedEvent)
+ * - 다른 인스턴스에서 바뀐 값은 주기적으로 DB 에서 다시 적재해 맞춤
+ * - 변경이 드물어 바뀔 때마다 새 스냅샷으로 교체하고, 조회는 잠금 없이 스냅샷을 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaffDirectory {
+
+    private static final List<UserRole> ROLES = List.of(UserRole.ROLE_ADMIN, UserRole.ROLE_STAFF);
+
+    private final UserRepository userRepository;
+
+    private volatile Map<Long, StaffDirectoryEntry> entries; // null 이면 아직 적재 전
+    private volatile Map<Long, Integer> onDutyStaffByVet = Map.of(); // 스냅샷을 바꿀 때 함께 계산 (entries 보다 먼저 기록)
+
+    // 변경이 반영될 때마다 증가 - 적재 도중 반영된 변경이 덮어써지지 않도록 사용
+    private final AtomicLong version = new AtomicLong();
+
+    public Optional<StaffDirectoryEntry> get(Long userId) {
+        return Optional.ofNullable(entries().get(userId));
+    }
+
+    // 병원 관리자 (ID 가 가장 작은 관리자) - 해당 병원 관리자가 없거나 vetId 가 null 이면 전체 병원 중에서
+    public Optional<StaffDirectoryEntry> findAdmin(Long vetId) {
+        Collection<StaffDirectoryEntry> all = entries().values();
+        Optional<StaffDirectoryEntry> admin = all.stream()
+                .filter(StaffDirectoryEntry::isAdmin)
+                .filter(entry -> vetId != null && vetId.equals(entry.vetId()))
+                .min(Comparator.comparing(StaffDirectoryEntry::id));
+        if (admin.isPresent()) {
+            return admin;
+        }
+        return all.stream()
+                .filter(StaffDirectoryEntry::isAdmin)
+                .min(Comparator.comparing(StaffDirectoryEntry::id));
+    }
+
+    // 승인된 의료진 (statuses 가 null 이면 근무 상태 무관, vetId 가 null 이면 전체 병원)
+    public List<StaffDirectoryEntry> findApprovedStaff(Long vetId, Collection<UserStatus> statuses) {
+        return entries().values().stream()
+                .filter(StaffDirectoryEntry::isStaff)
+                .filter(entry -> entry.approvalStatus() == ApprovalStatus.APPROVED)
+                .filter(entry -> statuses == null || statuses.contains(entry.status()))
+                .filter(entry -> vetId == null || vetId.equals(entry.vetId()))
+                .sorted(Comparator.comparing(StaffDirectoryEntry::id))
+                .toList();
+    }
+
+    // 병원의 진료 중(ON_DUTY)인 승인된 의료진 수 - 병원별 예약 슬롯 정원으로 사용
+    public int countOnDutyStaff(Long vetId) {
+        entries();
+        return onDutyStaffByVet.getOrDefault(vetId, 0);
+    }
+
+    // 사용자 변경 반영 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        Map<Long, StaffDirectoryEntry> current = entries;
+        if (current == null) {
+            version.incrementAndGet();
+            return; // 적재 시 DB 에서 읽으므로 반영할 필요 없음
+        }
+
+        StaffDirectoryEntry entry = event.getEntry();
+        boolean listed = entry != null && ROLES.contains(entry.role());
+        if (!listed && !current.containsKey(event.getUserId())) {
+            return; // 보호자 정보 변경
+        }
+        if (listed && entry.equals(current.get(event.getUserId()))) {
+            return; // 디렉터리 값은 그대로 (토큰 갱신 등)
+        }
+
+        version.incrementAndGet();
+        Map<Long, StaffDirectoryEntry> updated = new HashMap<>(current);
+        if (listed) {
+            updated.put(event.getUserId(), entry);
+        } else {
+            updated.remove(event.getUserId());
+        }
+        replace(Map.copyOf(updated));
+    }
+
+    // DB 에서 전체 적재
+    @Scheduled(fixedDelayString = "${user.directory.reload-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        long loadedVersion = version.get();
+        Map<Long, StaffDirectoryEntry> loaded = load();
+        synchronized (this) {
+            if (version.get() != loadedVersion) {
+                return; // 적재하는 동안 바뀐 사용자가 있음 - 다음 주기에 다시 적재
+            }
+            if (entries != null && !loaded.equals(entries)) {
+                log.info("관리자/의료진 디렉터리 보정: {}명", loaded.size());
+            }
+            replace(loaded);
+        }
+    }
+
+    private Map<Long, StaffDirectoryEntry> entries() {
+        Map<Long, StaffDirectoryEntry> current = entries;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (entries == null) {
+                replace(load());
+                log.info("관리자/의료진 디렉터리 적재 완료: {}명", entries.size());
+            }
+            return entries;
+        }
+    }
+
+    private void replace(Map<Long, StaffDirectoryEntry> snapshot) {
+        Map<Long, Integer> onDuty = new HashMap<>();
+        snapshot.values().stream()
+                .filter(StaffDirectoryEntry::isStaff)
+                .filter(entry -> entry.approvalStatus() == ApprovalStatus.APPROVED)
+                .filter(entry -> entry.status() == UserStatus.ON_DUTY)
+                .filter(entry -> entry.vetId() != null)
+                .forEach(entry -> onDuty.merge(entry.vetId(), 1, Integer::sum));
+        onDutyStaffByVet = Map.copyOf(onDuty);
+        entries = snapshot;
+    }
+
+    private Map<Long, StaffDirectoryEntry> load() {
+        Map<Long, StaffDirectoryEntry> loaded = new HashMap<>();
+        for (StaffDirectoryEntry entry : userRepository.findDirectoryEntriesByRoleIn(ROLES)) {
+            loaded.put(entry.id(), entry);
+        }
+        return Map.copyOf(loaded);
+    }
+}
@@ -3,6 +3,8 @@ package com.petner.anidoc.domain.user.user.service;
 import com.petner.anidoc.domain.user.user.dto.*;
 import com.petner.anidoc.domain.user.user.entity.*;
 import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.service.ReservationService;
 import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
 import com.petner.anidoc.domain.vet.vet.repository.VetInfoRepository;
 import com.petner.anidoc.global.exception.CustomException;
@@ -14,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +41,8 @@ public class UserService {
     private final AuthTokenService authTokenService;
     private final PasswordEncoder passwordEncoder;
     private final UserStatusService userStatusService;
+    private final StaffDirectory staffDirectory;
+    private final ReservationService reservationService;
 
 
     // ✅ 이메일 중복 검사
@@ -153,7 +158,13 @@ public class UserService {
     // ✅ 회원 탈퇴
     @Transactional
     public void deleteUser(long userId) {
-        userRepository.deleteById(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            // 본인 예약과 반려동물 예약이 함께 삭제되므로 슬롯 해제
+            List<Reservation> reservations = new ArrayList<>(user.getReservations());
+            user.getPets().forEach(pet -> reservations.addAll(pet.getReservations()));
+            reservationService.releaseDeletedReservations(reservations);
+            userRepository.delete(user);
+        });
     }
 
 
@@ -210,31 +221,13 @@ public class UserService {
     // ✅ 의료진 조회
     @Transactional(readOnly = true)
     public List<StaffResponseDto> getStaffList(boolean onlyAvailable) {
-        List<User> staffList;
-
-        if (onlyAvailable) {
-            // 승인되고 근무 중인 의료진만 조회
-            List<UserStatus> statuses = Arrays.asList(
-                    UserStatus.ON_DUTY,
-                    UserStatus.OFFLINE
-            );
-
-            staffList = userRepository.findByRoleAndApprovalStatusAndStatusIn(
-                    UserRole.ROLE_STAFF,
-                    ApprovalStatus.APPROVED,
-                    statuses
-            );
-        } else {
-            // 승인된 모든 의료진 조회
-            staffList = userRepository.findByRoleAndApprovalStatus(
-                    UserRole.ROLE_STAFF,
-                    ApprovalStatus.APPROVED
-            );
-        }
-
+        // 승인된 의료진 (onlyAvailable 이면 근무 중/오프라인만) - 관리자/의료진 디렉터리에서 조회
+        List<UserStatus> statuses = onlyAvailable
+                ? Arrays.asList(UserStatus.ON_DUTY, UserStatus.OFFLINE)
+                : null;
 
-        return staffList.stream()
-                .map(StaffResponseDto::fromEntity)
+        return staffDirectory.findApprovedStaff(null, statuses).stream()
+                .map(StaffResponseDto::fromEntry)
                 .collect(Collectors.toList());
     }
 
@@ -1,5 +1,8 @@
 package com.petner.anidoc.domain.vet.medicalrecord.service;
 
+import com.petner.anidoc.domain.statistics.service.DailyVisitRollupService;
+import com.petner.anidoc.domain.statistics.service.DashboardLiveCounters;
+import com.petner.anidoc.domain.statistics.service.DashboardStatsCache;
 import com.petner.anidoc.domain.user.user.entity.User;
 import com.petner.anidoc.domain.user.user.entity.UserRole;
 import com.petner.anidoc.domain.user.user.repository.UserRepository;
@@ -39,6 +42,9 @@ public class FullMedicalRecordService {
     private final CheckupRecordRepository checkupRecordRepository;
     private final HospitalizationRecordRepository hospitalizationRecordRepository;
     private final SurgeryRecordRepository surgeryRecordRepository;
+    private final DailyVisitRollupService dailyVisitRollupService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardLiveCounters dashboardLiveCounters;
 
     @Transactional
     public void updateFullMedicalRecord(Long userId, Long medicalRecordId, FullMedicalRecordUpdateDto dto) throws AccessDeniedException {
@@ -86,6 +92,9 @@ public class FullMedicalRecordService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 진료기록이 존재하지 않거나 삭제되었습니다."));
 
         medicalRecord.markAsDeleted();
+        dailyVisitRollupService.decrease(medicalRecord);
+        dashboardStatsCache.evictTreatment(medicalRecord.getPet().getOwner().getId(), medicalRecord.getDoctor());
+        dashboardLiveCounters.treatmentChanged(medicalRecord, -1);
     }
 
 
@@ -1,5 +1,9 @@
 package com.petner.anidoc.domain.vet.medicalrecord.service;
 
+import com.petner.anidoc.domain.statistics.service.DailyVisitRollupService;
+import com.petner.anidoc.domain.statistics.service.DashboardLiveCounters;
+import com.petner.anidoc.domain.statistics.service.DashboardStatsCache;
+import com.petner.anidoc.domain.statistics.service.DistinctPetSketchService;
 import com.petner.anidoc.domain.user.user.entity.User;
 import com.petner.anidoc.domain.user.user.entity.UserRole;
 import com.petner.anidoc.domain.user.user.repository.UserRepository;
@@ -26,6 +30,10 @@ public class MedicalRecordService {
     private final MedicalRecordRepository medicalRecordRepository;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
+    private final DailyVisitRollupService dailyVisitRollupService;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardLiveCounters dashboardLiveCounters;
+    private final DistinctPetSketchService distinctPetSketchService;
 
     @Transactional
     public MedicalRecordResponseDto createMedicalRecord(MedicalRecordRequestDto medicalRecordRequestDto, Long userId, Long reservationId) throws AccessDeniedException {
@@ -58,6 +66,10 @@ public class MedicalRecordService {
                 .build();
 
         MedicalRecord savedRecord = medicalRecordRepository.save(medicalRecord);
+        dailyVisitRollupService.increase(savedRecord);
+        distinctPetSketchService.add(savedRecord); // 캐시 무효화보다 먼저 반영되도록 앞에 둠
+        dashboardStatsCache.evictTreatment(savedRecord.getPet().getOwner().getId(), user);
+        dashboardLiveCounters.treatmentChanged(savedRecord, 1);
         return MedicalRecordResponseDto.from(savedRecord);
     }
 
@@ -88,6 +100,9 @@ public class MedicalRecordService {
 
         medicalRecord.markAsDeleted(); //soft delete
         medicalRecordRepository.save(medicalRecord);
+        dailyVisitRollupService.decrease(medicalRecord);
+        dashboardStatsCache.evictTreatment(medicalRecord.getPet().getOwner().getId(), medicalRecord.getDoctor());
+        dashboardLiveCounters.treatmentChanged(medicalRecord, -1);
     }
 
 
@@ -2,6 +2,7 @@ package com.petner.anidoc.domain.vet.reservation.controller;
 
 import com.petner.anidoc.domain.vet.reservation.dto.*;
 import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
 import com.petner.anidoc.domain.vet.reservation.service.ReservationService;
 import com.petner.anidoc.global.security.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,6 +42,15 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getUserReservations(userId));
     }
 
+    @Operation(summary = "유저 예약 목록 페이지 조회", description = "특정 유저의 예약을 최신순으로 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<ReservationPageResponseDto> getUserReservationPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getUserReservationPage(userId, cursor, size));
+    }
+
     @Operation(summary = "반려동물 예약 목록 조회", description = "특정 반려동물의 모든 예약 목록을 조회합니다.")
     @GetMapping("/pet/{petId}")
     public ResponseEntity<List<ReservationResponseDto>> getPetReservations(
@@ -48,6 +58,15 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getPetReservations(petId));
     }
 
+    @Operation(summary = "반려동물 예약 목록 페이지 조회", description = "특정 반려동물의 예약을 최신순으로 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/pet/{petId}/page")
+    public ResponseEntity<ReservationPageResponseDto> getPetReservationPage(
+            @PathVariable Long petId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getPetReservationPage(petId, cursor, size));
+    }
+
     @Operation(summary = "예약 상세 조회", description = "특정 예약의 상세 정보를 조회합니다.")
     @GetMapping("/{reservationId}")
     public ResponseEntity<ReservationResponseDto> getReservation(
@@ -82,6 +101,14 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.updateReservationStatus(userId, reservationId, requestDto));
     }
 
+    @Operation(summary = "예약 일괄 처리", description = "여러 예약의 담당의 배정/상태 변경을 한 번에 처리합니다. 하나라도 실패하면 모두 취소됩니다. (관리자만 가능)")
+    @PatchMapping("/triage")
+    public ResponseEntity<List<ReservationResponseDto>> triageReservations(
+            @RequestParam Long userId,
+            @RequestBody ReservationTriageRequestDto requestDto) {
+        return ResponseEntity.ok(reservationService.triageReservations(userId, requestDto));
+    }
+
     @Operation(summary = "예약 취소", description = "예약을 취소합니다.")
     @DeleteMapping("/{reservationId}")
     public ResponseEntity<Void> cancelReservation(
@@ -98,11 +125,34 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getReservationsByDate(date));
     }
 
-    @Operation(summary = "예약 가능한 시간 슬롯 조회", description = "특정 날짜에 예약 가능한 시간 슬롯 목록을 조회합니다.")
+    @Operation(summary = "날짜별 예약 목록 페이지 조회", description = "특정 날짜의 예약을 시간순으로 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
+    @GetMapping("/date/{date}/page")
+    public ResponseEntity<ReservationPageResponseDto> getReservationPageByDate(
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getReservationPageByDate(date, cursor, size));
+    }
+
+    @Operation(summary = "예약 가능한 시간 슬롯 조회", description = "특정 날짜에 예약 가능한 시간 슬롯 목록을 조회합니다. vetId 를 생략하면 기본 병원 기준입니다.")
     @GetMapping("/available-slots/{date}")
     public ResponseEntity<List<TimeSlotResponseDto>> getAvailableTimeSlots(
-            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
-        return ResponseEntity.ok(reservationService.getAvailableTimeSlots(date));
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(required = false) Long vetId) {
+        return ResponseEntity.ok(reservationService.getAvailableTimeSlots(date, vetId));
+    }
+
+    @Operation(summary = "가장 빠른 예약 가능 시간 조회",
+            description = "from(기본 오늘)부터 days일(최대 90일) 안에서 예약 가능한 시간을 빠른 순으로 count개 조회합니다. doctorId 를 지정하면 진료 중인 의료진일 때만 그 의료진 소속 병원 기준으로, 아니면 vetId(생략하면 기본 병원) 기준으로 조회됩니다.")
+    @GetMapping("/next-available")
+    public ResponseEntity<List<AvailableSlotResponseDto>> getNextAvailableSlots(
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(required = false) ReservationType type,
+            @RequestParam(required = false) Long doctorId,
+            @RequestParam(required = false) Long vetId) {
+        return ResponseEntity.ok(reservationService.getNextAvailableSlots(count, from, days, type, doctorId, vetId));
     }
 
     @Operation(summary = "월별 예약 캘린더 정보 조회", description = "특정 월의 예약 캘린더 정보를 조회합니다.")
@@ -127,4 +177,14 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getApprovedReservationsForDoctor(doctorId));
     }
 
+    @Operation(summary = "의료진 진료 목록 조회",
+            description = "로그인한 의료진의 승인된 예약을 보호자/반려동물 요약, 진료기록·예방접종 작성 여부와 함께 조회합니다. 기간을 생략하면 오늘, endDate 를 생략하면 startDate 하루입니다.")
+    @GetMapping("/worklist")
+    public ResponseEntity<List<DoctorWorklistItemDto>> getDoctorWorklist(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        return ResponseEntity.ok(reservationService.getDoctorWorklist(user.getId(), startDate, endDate));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.petner.anidoc.domain.vet.reservation.dto;
+
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 가장 빠른 예약 가능 슬롯 (그대로 예약 요청에 사용할 수 있도록 날짜/시간/유형을 함께 반환)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailableSlotResponseDto {
+    private LocalDate date;
+    private LocalTime time;
+    private ReservationType type;
+}
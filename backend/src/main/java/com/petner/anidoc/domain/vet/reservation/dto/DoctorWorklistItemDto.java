@@ -0,0 +1,36 @@
+package com.petner.anidoc.domain.vet.reservation.dto;
+
+import com.petner.anidoc.domain.user.pet.entity.Gender;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 의료진 진료 목록 항목 (승인된 예약 + 보호자/반려동물 요약 + 진료기록/예방접종 작성 여부)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DoctorWorklistItemDto {
+    private Long reservationId;
+    private LocalDate reservationDate;
+    private LocalTime reservationTime;
+    private ReservationType type;
+    private String symptom;
+    private Long ownerId;
+    private String ownerName;
+    private Long petId;
+    private String petName;
+    private String petSpecies;
+    private String petBreed;
+    private Gender petGender;
+    private LocalDate petBirth;
+    private BigDecimal petWeight;
+    private boolean hasMedicalRecord;
+    private boolean hasVaccination;
+}
@@ -0,0 +1,19 @@
+package com.petner.anidoc.domain.vet.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 예약 목록 페이지 (nextCursor 를 다음 요청의 cursor 로 전달, 마지막 페이지면 null)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationPageResponseDto {
+    private List<ReservationResponseDto> reservations;
+    private String nextCursor;
+    private boolean hasNext;
+}
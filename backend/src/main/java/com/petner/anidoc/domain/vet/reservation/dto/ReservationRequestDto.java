@@ -15,6 +15,7 @@ import java.time.LocalTime;
 @Builder
 public class ReservationRequestDto {
     private Long petId;
+    private Long vetId; // 예약할 병원 (없으면 기본 병원)
     private LocalDate reservationDate;
     private LocalTime reservationTime;
     private String symptom;
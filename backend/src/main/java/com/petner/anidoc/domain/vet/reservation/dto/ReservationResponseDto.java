@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
@@ -34,6 +35,28 @@ public class ReservationResponseDto {
     private String updatedAt;
     private boolean hasMedicalRecord;
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // JPQL 생성자 프로젝션용 (엔티티를 읽지 않고 필요한 컬럼만 조회)
+    public ReservationResponseDto(Long id, Long userId, String userName, Long petId, String petName, String petSpecies,
+                                  Long doctorId, String doctorName, LocalDate reservationDate, LocalTime reservationTime,
+                                  ReservationStatus status, String symptom, ReservationType type,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, userName, petId, petName, petSpecies, doctorId, doctorName, reservationDate, reservationTime,
+                status, symptom, type, createdAt, updatedAt, false);
+    }
+
+    public ReservationResponseDto(Long id, Long userId, String userName, Long petId, String petName, String petSpecies,
+                                  Long doctorId, String doctorName, LocalDate reservationDate, LocalTime reservationTime,
+                                  ReservationStatus status, String symptom, ReservationType type,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt, boolean hasMedicalRecord) {
+        this(id, userId, userName, petId, petName, petSpecies, doctorId, doctorName, reservationDate, reservationTime,
+                status, symptom, type,
+                createdAt != null ? createdAt.format(DATE_TIME_FORMATTER) : null,
+                updatedAt != null ? updatedAt.format(DATE_TIME_FORMATTER) : null,
+                hasMedicalRecord);
+    }
+
     // 엔티티 -> DTO 변환
     public static ReservationResponseDto fromEntity(Reservation reservation) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
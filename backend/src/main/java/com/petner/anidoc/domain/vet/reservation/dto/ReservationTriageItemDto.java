@@ -0,0 +1,18 @@
+package com.petner.anidoc.domain.vet.reservation.dto;
+
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 처리 항목 - status, doctorId 중 null 인 값은 변경하지 않음 (담당의 배정 후 상태 변경 순서로 적용)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationTriageItemDto {
+    private Long reservationId;
+    private ReservationStatus status;
+    private Long doctorId;
+}
@@ -0,0 +1,16 @@
+package com.petner.anidoc.domain.vet.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationTriageRequestDto {
+    private List<ReservationTriageItemDto> items;
+}
@@ -4,6 +4,7 @@ import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.user.entity.User;
 import com.petner.anidoc.domain.vet.reservation.dto.ReservationStatusUpdateRequestDto;
 import com.petner.anidoc.domain.vet.reservation.dto.ReservationUpdateRequestDto;
+import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
 import com.petner.anidoc.global.jpa.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -23,7 +24,17 @@ import java.util.List;
 @NoArgsConstructor
 @SuperBuilder
 @ToString
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        // 캘린더/날짜별 조회 (예약일 범위 + 상태별 집계)
+        @Index(name = "idx_reservations_date_status", columnList = "reservation_date, status"),
+        // 보호자/반려동물별 목록 (최신순 커서 페이지)
+        @Index(name = "idx_reservations_user_date_time", columnList = "user_id, reservation_date, reservation_time"),
+        @Index(name = "idx_reservations_pet_date_time", columnList = "pet_id, reservation_date, reservation_time"),
+        // 의료진 진료 목록 (담당의 + 승인 + 기간)
+        @Index(name = "idx_reservations_doctor_status_date", columnList = "doctor_id, status, reservation_date"),
+        // 병원별 슬롯 점유 (병원 + 예약일)
+        @Index(name = "idx_reservations_vet_date", columnList = "vet_id, reservation_date")
+})
 public class Reservation extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,6 +48,11 @@ public class Reservation extends BaseEntity {
     @JoinColumn(name = "doctor_id")
     private User doctor;
 
+    // 예약한 병원 - 슬롯 정원은 병원마다 따로 계산
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "vet_id")
+    private VetInfo vetInfo;
+
     @Column(name = "reservation_date", nullable = false)
     private LocalDate reservationDate;
 
@@ -0,0 +1,38 @@
+package com.petner.anidoc.domain.vet.reservation.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 병원별 날짜 슬롯 정원
+ * - 그 날짜에 처음 자리를 선점할 때 병원의 진료 중인 의료진 수로 기록
+ * - 의료진이 늘면 함께 늘고, 줄어도 그대로 유지 (이미 받은 예약의 자리가 정원을 넘지 않도록)
+ * - 근무 상태가 바뀌어도 이미 예약을 받은 날짜의 정원은 줄지 않음
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "reservation_slot_capacity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_slot_capacity_vet_date",
+                columnNames = {"vet_id", "reservation_date"}))
+public class ReservationSlotCapacity extends BaseEntity {
+
+    @Column(name = "vet_id", nullable = false)
+    private Long vetId;
+
+    @Column(name = "reservation_date", nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+}
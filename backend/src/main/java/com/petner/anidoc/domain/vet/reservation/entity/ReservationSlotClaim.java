@@ -0,0 +1,47 @@
+package com.petner.anidoc.domain.vet.reservation.entity;
+
+import com.petner.anidoc.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 예약 슬롯 선점
+ * - 승인거부되지 않은 예약 하나가 예약한 병원의 (날짜, 시간) 슬롯의 자리(seat) 하나를 차지
+ * - 자리는 0 ~ 정원-1 (정원 = 병원의 그 날짜 정원, ReservationSlotCapacity)
+ * - 유니크 키로 같은 자리의 두 번째 선점은 DB 에서 거부되므로 여러 인스턴스에서도 정원을 넘는 예약이 생기지 않음
+ * - 병원 단위로 바뀌면서 테이블을 새로 만듦 (이전 reservation_slot_claim 은 병원 구분 없는 유니크 키가 남아 있어 사용하지 않음)
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@ToString
+@Table(name = "reservation_vet_slot_claim",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_vet_slot_claim_seat",
+                columnNames = {"vet_id", "reservation_date", "reservation_time", "seat"}),
+        indexes = @Index(name = "idx_reservation_vet_slot_claim_reservation", columnList = "reservation_id"))
+public class ReservationSlotClaim extends BaseEntity {
+
+    @Column(name = "vet_id", nullable = false)
+    private Long vetId;
+
+    @Column(name = "reservation_date", nullable = false)
+    private LocalDate reservationDate;
+
+    @Column(name = "reservation_time", nullable = false)
+    private LocalTime reservationTime;
+
+    @Column(name = "seat", nullable = false)
+    private int seat;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+}
@@ -0,0 +1,31 @@
+package com.petner.anidoc.domain.vet.reservation.event;
+
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 예약 생성/수정/상태변경/취소 이벤트
+ * - before: 변경 전 상태 (생성 시 null)
+ * - after: 변경 후 상태 (취소 시 null)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ReservationChangedEvent {
+    private final ReservationSnapshot before;
+    private final ReservationSnapshot after;
+
+    public static ReservationChangedEvent created(Reservation reservation) {
+        return new ReservationChangedEvent(null, ReservationSnapshot.from(reservation));
+    }
+
+    public static ReservationChangedEvent updated(ReservationSnapshot before, Reservation reservation) {
+        return new ReservationChangedEvent(before, ReservationSnapshot.from(reservation));
+    }
+
+    public static ReservationChangedEvent cancelled(ReservationSnapshot before) {
+        return new ReservationChangedEvent(before, null);
+    }
+}
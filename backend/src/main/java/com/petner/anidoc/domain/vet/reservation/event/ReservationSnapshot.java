@@ -0,0 +1,46 @@
+package com.petner.anidoc.domain.vet.reservation.event;
+
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 변경 시점의 예약 상태 (트랜잭션 밖에서도 안전하게 읽을 수 있도록 값만 보관)
+@Getter
+@AllArgsConstructor
+@Builder
+@ToString
+public class ReservationSnapshot {
+    private Long id;
+    private Long userId;
+    private Long petId;
+    private Long doctorId;
+    private Long vetId; // 담당의 소속 병원 (담당의 미배정이면 null)
+    private Long reservationVetId; // 예약한 병원 (슬롯 정원 기준)
+    private LocalDate reservationDate;
+    private LocalTime reservationTime;
+    private ReservationStatus status;
+    private ReservationType type;
+
+    public static ReservationSnapshot from(Reservation reservation) {
+        return ReservationSnapshot.builder()
+                .id(reservation.getId())
+                .userId(reservation.getUser().getId())
+                .petId(reservation.getPet().getId())
+                .doctorId(reservation.getDoctor() != null ? reservation.getDoctor().getId() : null)
+                .vetId(reservation.getDoctor() != null && reservation.getDoctor().getVetInfo() != null
+                        ? reservation.getDoctor().getVetInfo().getId() : null)
+                .reservationVetId(reservation.getVetInfo() != null ? reservation.getVetInfo().getId() : null)
+                .reservationDate(reservation.getReservationDate())
+                .reservationTime(reservation.getReservationTime())
+                .status(reservation.getStatus())
+                .type(reservation.getType())
+                .build();
+    }
+}
@@ -2,16 +2,25 @@ package com.petner.anidoc.domain.vet.reservation.repository;
 
 import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.vet.reservation.dto.DoctorWorklistItemDto;
+import com.petner.anidoc.domain.vet.reservation.dto.ReservationResponseDto;
 import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
 import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
@@ -25,17 +34,139 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // 날짜별 예약 조회
     List<Reservation> findByReservationDateOrderByReservationTime(LocalDate reservationDate);
 
+    // 목록 조회는 엔티티 대신 응답 DTO 로 바로 조회 (보호자/반려동물/담당의 한 번에 조인)
+    String RESPONSE_PROJECTION = "SELECT new com.petner.anidoc.domain.vet.reservation.dto.ReservationResponseDto("
+            + " r.id, u.id, u.name, p.id, p.name, p.species, d.id, d.name,"
+            + " r.reservationDate, r.reservationTime, r.status, r.symptom, r.type, r.createdAt, r.updatedAt)"
+            + " FROM Reservation r JOIN r.user u JOIN r.pet p LEFT JOIN r.doctor d";
+
+    // 최신순 커서 조건 - 커서(예약일, 예약시간, ID) 보다 앞선 예약만, 커서가 없으면 처음부터
+    String BEFORE_CURSOR = " AND (:cursorDate IS NULL OR r.reservationDate < :cursorDate"
+            + " OR (r.reservationDate = :cursorDate AND (r.reservationTime < :cursorTime"
+            + " OR (r.reservationTime = :cursorTime AND r.id < :cursorId))))"
+            + " ORDER BY r.reservationDate DESC, r.reservationTime DESC, r.id DESC";
+
+    // 사용자별 예약 목록 (최신순, 커서 페이지)
+    @Query(RESPONSE_PROJECTION + " WHERE u.id = :userId" + BEFORE_CURSOR)
+    List<ReservationResponseDto> findResponsesByUserId(@Param("userId") Long userId,
+                                                       @Param("cursorDate") LocalDate cursorDate,
+                                                       @Param("cursorTime") LocalTime cursorTime,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Limit limit);
+
+    // 반려동물별 예약 목록 (최신순, 커서 페이지)
+    @Query(RESPONSE_PROJECTION + " WHERE p.id = :petId" + BEFORE_CURSOR)
+    List<ReservationResponseDto> findResponsesByPetId(@Param("petId") Long petId,
+                                                      @Param("cursorDate") LocalDate cursorDate,
+                                                      @Param("cursorTime") LocalTime cursorTime,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Limit limit);
+
+    // 날짜별 예약 목록 (시간순, 커서 페이지) - 커서(예약시간, ID) 이후 예약만
+    @Query(RESPONSE_PROJECTION + " WHERE r.reservationDate = :date"
+            + " AND (:cursorTime IS NULL OR r.reservationTime > :cursorTime"
+            + " OR (r.reservationTime = :cursorTime AND r.id > :cursorId))"
+            + " ORDER BY r.reservationTime, r.id")
+    List<ReservationResponseDto> findResponsesByReservationDate(@Param("date") LocalDate date,
+                                                                @Param("cursorTime") LocalTime cursorTime,
+                                                                @Param("cursorId") Long cursorId,
+                                                                Limit limit);
+
+    // 의료진의 승인된 예약 (진료기록 작성 여부 포함, 예약일/시간순)
+    @Query("SELECT new com.petner.anidoc.domain.vet.reservation.dto.ReservationResponseDto("
+            + " r.id, u.id, u.name, p.id, p.name, p.species, d.id, d.name,"
+            + " r.reservationDate, r.reservationTime, r.status, r.symptom, r.type, r.createdAt, r.updatedAt,"
+            + " CASE WHEN EXISTS (SELECT 1 FROM MedicalRecord m WHERE m.reservation = r) THEN true ELSE false END)"
+            + " FROM Reservation r JOIN r.user u JOIN r.pet p JOIN r.doctor d"
+            + " WHERE d.id = :doctorId AND r.status = 'APPROVED'"
+            + " ORDER BY r.reservationDate, r.reservationTime")
+    List<ReservationResponseDto> findApprovedResponsesByDoctorId(@Param("doctorId") Long doctorId);
+
+    // 의료진 진료 목록 (기간 내 승인된 예약, startDate/endDate 포함, 예약일/시간순)
+    @Query("SELECT new com.petner.anidoc.domain.vet.reservation.dto.DoctorWorklistItemDto("
+            + " r.id, r.reservationDate, r.reservationTime, r.type, r.symptom,"
+            + " u.id, u.name, p.id, p.name, p.species, p.breed, p.gender, p.birth, p.weight,"
+            + " CASE WHEN EXISTS (SELECT 1 FROM MedicalRecord m WHERE m.reservation = r) THEN true ELSE false END,"
+            + " CASE WHEN EXISTS (SELECT 1 FROM Vaccination v WHERE v.reservation = r) THEN true ELSE false END)"
+            + " FROM Reservation r JOIN r.user u JOIN r.pet p"
+            + " WHERE r.doctor.id = :doctorId AND r.status = 'APPROVED'"
+            + " AND r.reservationDate >= :startDate AND r.reservationDate <= :endDate"
+            + " ORDER BY r.reservationDate, r.reservationTime")
+    List<DoctorWorklistItemDto> findWorklist(@Param("doctorId") Long doctorId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    // 여러 예약을 보호자/반려동물/담당의와 함께 한 번에 조회 (일괄 처리용)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.user JOIN FETCH r.pet LEFT JOIN FETCH r.doctor WHERE r.id IN :ids")
+    List<Reservation> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
     // 특정 날짜와 시간에 등록된 예약 찾기 (승인거부된 예약 제외)
     List<Reservation> findByReservationDateAndReservationTimeAndStatusNot(
             LocalDate date, LocalTime time, ReservationStatus status);
 
-    // 특정 날짜에 예약된 시간 슬롯 목록 조회
-    @Query("SELECT r.reservationTime FROM Reservation r WHERE r.reservationDate = :date AND r.status != 'REJECTED'")
-    List<LocalTime> findNonRejectedTimesByDate(@Param("date") LocalDate date);
-
-    // 특정 달의 예약이 있는 날짜 목록 조회 (캘린더 표시용)
-    @Query("SELECT DISTINCT r.reservationDate FROM Reservation r WHERE YEAR(r.reservationDate) = :year AND MONTH(r.reservationDate) = :month")
-    List<LocalDate> findReservationDatesByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    // 병원의 특정 날짜에 예약된 시간 슬롯 목록 조회
+    @Query("SELECT r.reservationTime FROM Reservation r"
+            + " WHERE r.vetInfo.id = :vetId AND r.reservationDate = :date AND r.status != 'REJECTED'")
+    List<LocalTime> findNonRejectedTimesByDate(@Param("vetId") Long vetId, @Param("date") LocalDate date);
+
+    // 슬롯 점유 인덱스 적재용 (병원 ID, 예약일, 예약시간) - 승인거부된 예약 제외
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r.vetInfo.id, r.reservationDate, r.reservationTime FROM Reservation r"
+            + " WHERE r.reservationDate >= :fromDate AND r.status != 'REJECTED' AND r.vetInfo IS NOT NULL")
+    Stream<Object[]> streamNonRejectedSlotsFrom(@Param("fromDate") LocalDate fromDate);
+
+    // 병원이 없는 예약(병원별 정원 도입 전)에 병원 지정 - 담당의가 있으면 담당의 소속 병원
+    @Modifying
+    @Query(value = "UPDATE reservations r SET vet_id = (SELECT u.vet_id FROM users u WHERE u.id = r.doctor_id)"
+            + " WHERE r.vet_id IS NULL AND r.doctor_id IS NOT NULL", nativeQuery = true)
+    int assignDoctorVetToUnassigned();
+
+    // 나머지는 기본 병원으로
+    @Modifying
+    @Query(value = "UPDATE reservations SET vet_id = :vetId WHERE vet_id IS NULL", nativeQuery = true)
+    int assignVetToUnassigned(@Param("vetId") Long vetId);
+
+    // 담당의 일정 (예약일, 예약시간) - 승인거부된 예약 제외, endDate 미포함
+    @Query("SELECT r.reservationDate, r.reservationTime FROM Reservation r"
+            + " WHERE r.doctor.id = :doctorId AND r.reservationDate >= :startDate AND r.reservationDate < :endDate"
+            + " AND r.status != 'REJECTED'")
+    List<Object[]> findDoctorSlotsBetween(@Param("doctorId") Long doctorId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    // 여러 담당의의 일정 (담당의 ID, 예약 ID, 예약일, 예약시간) - 승인거부된 예약 제외, 주어진 날짜만
+    @Query("SELECT r.doctor.id, r.id, r.reservationDate, r.reservationTime FROM Reservation r"
+            + " WHERE r.doctor.id IN :doctorIds AND r.reservationDate IN :dates AND r.status != 'REJECTED'")
+    List<Object[]> findDoctorSlotsOn(@Param("doctorIds") Collection<Long> doctorIds,
+                                     @Param("dates") Collection<LocalDate> dates);
+
+    // 담당의가 같은 시간에 다른 예약을 맡고 있는지 (승인거부된 예약 제외)
+    @Query("SELECT COUNT(r) > 0 FROM Reservation r"
+            + " WHERE r.doctor.id = :doctorId AND r.reservationDate = :date AND r.reservationTime = :time"
+            + " AND r.status != 'REJECTED' AND r.id != :reservationId")
+    boolean existsDoctorConflict(@Param("doctorId") Long doctorId,
+                                 @Param("date") LocalDate date,
+                                 @Param("time") LocalTime time,
+                                 @Param("reservationId") Long reservationId);
+
+    // 병원의 기간 내 (예약일, 예약시간) - 승인거부된 예약 제외, endDate 미포함
+    @Query("SELECT r.reservationDate, r.reservationTime FROM Reservation r"
+            + " WHERE r.vetInfo.id = :vetId AND r.reservationDate >= :startDate AND r.reservationDate < :endDate"
+            + " AND r.status != 'REJECTED'")
+    List<Object[]> findNonRejectedSlotsBetween(@Param("vetId") Long vetId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    // 기간 내 날짜별 예약 수 (캘린더 표시용, endDate 미포함)
+    // (예약일, 전체, 대기, 승인, 승인거부) - 예약일 범위 조건이라 reservation_date 인덱스를 그대로 사용
+    @Query("SELECT r.reservationDate, COUNT(r),"
+            + " SUM(CASE WHEN r.status = 'PENDING' THEN 1 ELSE 0 END),"
+            + " SUM(CASE WHEN r.status = 'APPROVED' THEN 1 ELSE 0 END),"
+            + " SUM(CASE WHEN r.status = 'REJECTED' THEN 1 ELSE 0 END)"
+            + " FROM Reservation r"
+            + " WHERE r.reservationDate >= :startDate AND r.reservationDate < :endDate"
+            + " GROUP BY r.reservationDate")
+    List<Object[]> countByReservationDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     List<Reservation> findByDoctorIdAndStatus(Long doctorId, ReservationStatus status);
 
@@ -0,0 +1,45 @@
+package com.petner.anidoc.domain.vet.reservation.repository;
+
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationSlotCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReservationSlotCapacityRepository extends JpaRepository<ReservationSlotCapacity, Long> {
+
+    //병원의 날짜별 정원
+    @Query("SELECT c.capacity FROM ReservationSlotCapacity c WHERE c.vetId = :vetId AND c.reservationDate = :date")
+    Optional<Integer> findCapacity(@Param("vetId") Long vetId, @Param("date") LocalDate date);
+
+    //슬롯 점유 인덱스 적재용 (병원 ID, 일자, 정원)
+    @Query("SELECT c.vetId, c.reservationDate, c.capacity FROM ReservationSlotCapacity c WHERE c.reservationDate >= :fromDate")
+    List<Object[]> findAllFrom(@Param("fromDate") LocalDate fromDate);
+
+    //병원의 기간 내 (일자, 정원) - endDate 미포함
+    @Query("SELECT c.reservationDate, c.capacity FROM ReservationSlotCapacity c"
+            + " WHERE c.vetId = :vetId AND c.reservationDate >= :startDate AND c.reservationDate < :endDate")
+    List<Object[]> findCapacitiesBetween(@Param("vetId") Long vetId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
+
+    //날짜 정원 기록 - 이미 있으면 0
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_slot_capacity"
+            + " (vet_id, reservation_date, capacity, created_at, updated_at)"
+            + " VALUES (:vetId, :date, :capacity, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertIgnore(@Param("vetId") Long vetId, @Param("date") LocalDate date, @Param("capacity") int capacity);
+
+    //정원 늘리기 (줄이지는 않음)
+    @Modifying
+    @Query("UPDATE ReservationSlotCapacity c SET c.capacity = :capacity"
+            + " WHERE c.vetId = :vetId AND c.reservationDate = :date AND c.capacity < :capacity")
+    int raise(@Param("vetId") Long vetId, @Param("date") LocalDate date, @Param("capacity") int capacity);
+}
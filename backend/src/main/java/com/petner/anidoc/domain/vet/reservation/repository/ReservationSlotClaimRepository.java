@@ -0,0 +1,48 @@
+package com.petner.anidoc.domain.vet.reservation.repository;
+
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationSlotClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationSlotClaimRepository extends JpaRepository<ReservationSlotClaim, Long> {
+
+    //자리 선점 - 이미 차지된 자리면 0 (예외 대신 0 을 돌려받아 같은 트랜잭션에서 다음 자리를 시도)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reservation_vet_slot_claim"
+            + " (vet_id, reservation_date, reservation_time, seat, reservation_id, created_at, updated_at)"
+            + " VALUES (:vetId, :date, :time, :seat, :reservationId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            nativeQuery = true)
+    int insertIgnore(@Param("vetId") Long vetId, @Param("date") LocalDate date, @Param("time") LocalTime time,
+                     @Param("seat") int seat, @Param("reservationId") Long reservationId);
+
+    //예약이 차지한 슬롯 해제 (바로 실행되므로 같은 트랜잭션에서 새 선점과 순서가 뒤바뀌지 않음)
+    @Modifying
+    @Query("DELETE FROM ReservationSlotClaim c WHERE c.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    //여러 예약의 슬롯 한 번에 해제
+    @Modifying
+    @Query("DELETE FROM ReservationSlotClaim c WHERE c.reservationId IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+
+    //예약이 없어진 선점 행 정리 (예약을 직접 지우지 않고 다른 엔티티 CASCADE 로 지운 경우 등)
+    @Modifying
+    @Query("DELETE FROM ReservationSlotClaim c"
+            + " WHERE NOT EXISTS (SELECT 1 FROM Reservation r WHERE r.id = c.reservationId)")
+    int deleteOrphans();
+
+    //기존 예약으로 선점 테이블 채우기용 (예약 ID, 병원 ID, 일자, 시간) - 병원 슬롯별로 먼저 들어온 예약부터
+    @Query("SELECT r.id, r.vetInfo.id, r.reservationDate, r.reservationTime FROM Reservation r"
+            + " WHERE r.status != 'REJECTED' AND r.vetInfo IS NOT NULL"
+            + " ORDER BY r.vetInfo.id, r.reservationDate, r.reservationTime, r.id")
+    List<Object[]> findNonRejectedSlotsInOrder();
+}
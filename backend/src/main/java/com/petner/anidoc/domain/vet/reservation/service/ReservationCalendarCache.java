@@ -0,0 +1,75 @@
+package com.petner.anidoc.domain.vet.reservation.service;
+
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ✅ ReservationCalendarCache
+ * - 월별 예약 캘린더를 월 단위로 메모리에 캐시
+ * - 예약 생성/수정/상태 변경/취소가 커밋되면 변경 전·후 예약일이 속한 달만 무효화
+ * - 최대 MAX_MONTHS 개월까지 보관하고, 넘으면 가장 오래 조회되지 않은 달부터 제거
+ */
+@Component
+public class ReservationCalendarCache {
+
+    // 임의의 연/월 요청으로 캐시가 계속 커지지 않도록 제한
+    private static final int MAX_MONTHS = 120;
+
+    // 조회 순서로 정렬 - 가득 차면 가장 오래 조회되지 않은 달을 제거 (months 로 동기화)
+    private final Map<YearMonth, Map<String, Object>> months =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, Map<String, Object>> eldest) {
+                    return size() > MAX_MONTHS;
+                }
+            };
+
+    // 무효화 횟수 - 조회 도중 무효화가 있었던 값이 캐시에 남지 않도록 사용 (months 로 동기화)
+    // 달별로 두면 임의의 연/월 요청마다 계속 늘어나므로 하나만 둠 (다른 달 무효화에도 조회 결과를 캐시하지 않을 뿐)
+    private long generation;
+
+    public Map<String, Object> get(YearMonth month, Supplier<Map<String, Object>> loader) {
+        long loadedGeneration;
+        synchronized (months) {
+            Map<String, Object> cached = months.get(month);
+            if (cached != null) {
+                return cached;
+            }
+            loadedGeneration = generation;
+        }
+
+        Map<String, Object> calendar = loader.get();
+        synchronized (months) {
+            // 조회하는 동안 무효화가 있었다면 이전 데이터일 수 있으므로 캐시하지 않음
+            if (generation == loadedGeneration) {
+                months.put(month, calendar);
+            }
+        }
+        return calendar;
+    }
+
+    // 예약 변경 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        evict(event.getBefore());
+        evict(event.getAfter());
+    }
+
+    private void evict(ReservationSnapshot snapshot) {
+        if (snapshot == null || snapshot.getReservationDate() == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(snapshot.getReservationDate());
+        synchronized (months) {
+            generation++;
+            months.remove(month);
+        }
+    }
+}
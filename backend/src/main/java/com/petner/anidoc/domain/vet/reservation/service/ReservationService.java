@@ -2,20 +2,29 @@ package com.petner.anidoc.domain.vet.reservation.service;
 
 import com.petner.anidoc.domain.user.notification.dto.ReservationNotificationDto;
 import com.petner.anidoc.domain.user.notification.entity.NotificationType;
-import com.petner.anidoc.domain.user.notification.service.NotificationService;
+import com.petner.anidoc.domain.user.notification.service.NotificationOutboxService;
 import com.petner.anidoc.domain.user.notification.util.NotificationMessageUtil;
 import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
+import com.petner.anidoc.domain.user.user.dto.StaffDirectoryEntry;
 import com.petner.anidoc.domain.user.user.entity.User;
 import com.petner.anidoc.domain.user.user.entity.UserRole;
 import com.petner.anidoc.domain.user.user.entity.UserStatus;
 import com.petner.anidoc.domain.user.user.repository.UserRepository;
-import com.petner.anidoc.domain.vet.medicalrecord.repository.MedicalRecordRepository;
+import com.petner.anidoc.domain.user.user.service.StaffDirectory;
 import com.petner.anidoc.domain.vet.reservation.dto.*;
 import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
 import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
 import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
+import com.petner.anidoc.domain.vet.reservation.util.ReservationCursor;
+import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
+import com.petner.anidoc.domain.vet.vet.repository.VetInfoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +32,6 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,8 +41,63 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final PetRepository petRepository;
-    private final NotificationService notificationService;
-    private final MedicalRecordRepository medicalRecordRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final ReservationSlotClaimService reservationSlotClaimService;
+    private final ReservationCalendarCache reservationCalendarCache;
+    private final StaffDirectory staffDirectory;
+    private final VetInfoRepository vetInfoRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_WORKLIST_DAYS = 31;
+    private static final int MAX_NEXT_AVAILABLE_COUNT = 50;
+    private static final int MAX_NEXT_AVAILABLE_DAYS = 90;
+    private static final int MAX_TRIAGE_ITEMS = 200;
+
+    // 알림 받을 관리자 - 담당의 소속 병원 관리자, 없으면 전체 병원 관리자 (관리자/의료진 디렉터리에서 조회)
+    private Long getAdminId(Reservation reservation) {
+        Long vetId = reservation.getDoctor() != null
+                ? staffDirectory.get(reservation.getDoctor().getId()).map(StaffDirectoryEntry::vetId).orElse(null)
+                : null;
+        return staffDirectory.findAdmin(vetId)
+                .map(StaffDirectoryEntry::id)
+                .orElseThrow(() -> new IllegalStateException("관리자 계정이 존재하지 않습니다."));
+    }
+
+    // 의료진 조회 (관리자/의료진 디렉터리) - 의료진이 아니면 IllegalArgumentException
+    private StaffDirectoryEntry getStaff(Long doctorId) {
+        StaffDirectoryEntry staff = staffDirectory.get(doctorId).orElse(null);
+        if (staff == null && !userRepository.existsById(doctorId)) {
+            throw new IllegalArgumentException("존재하지 않는 의사입니다.");
+        }
+        if (staff == null || !staff.isStaff()) {
+            throw new IllegalArgumentException("의료진만 담당의로 지정할 수 있습니다.");
+        }
+        return staff;
+    }
+
+    // 담당의 일정 확인 - 의료진 한 명은 같은 시간에 예약 하나만 진료 (승인거부된 예약은 확인하지 않음)
+    private void checkDoctorAvailable(Long doctorId, Reservation reservation) {
+        if (reservation.getStatus() != ReservationStatus.REJECTED
+                && reservationRepository.existsDoctorConflict(doctorId, reservation.getReservationDate(),
+                reservation.getReservationTime(), reservation.getId())) {
+            throw new IllegalStateException("담당의가 같은 시간에 다른 예약을 진료합니다.");
+        }
+    }
+
+    // 담당의 소속 확인 - 예약한 병원 의료진만 배정 (슬롯 정원이 병원 의료진 수 기준이므로)
+    private void checkDoctorVet(Long doctorVetId, Reservation reservation) {
+        if (!reservation.getVetInfo().getId().equals(doctorVetId)) {
+            throw new IllegalArgumentException("예약한 병원 소속 의료진만 담당의로 지정할 수 있습니다.");
+        }
+    }
+
+    // 예약할 병원 - 지정하지 않으면 기본 병원 (가장 먼저 등록된 병원)
+    private VetInfo getReservationVet(Long vetId) {
+        Optional<VetInfo> vet = vetId != null ? vetInfoRepository.findById(vetId) : vetInfoRepository.findFirstByOrderByIdAsc();
+        return vet.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 병원입니다."));
+    }
 
     // 유저 가져오기
     private User getUser(Long userId) {
@@ -54,17 +117,17 @@ public class ReservationService {
             throw new IllegalArgumentException("유효하지 않은 예약 시간입니다.");
         }
 
-        // 해당 날짜와 시간에 이미 예약이 있는지 확인 (REJECTED가 아닌 예약)
-        List<Reservation> existingReservations = reservationRepository.findByReservationDateAndReservationTimeAndStatusNot(
-                requestDto.getReservationDate(), requestDto.getReservationTime(), ReservationStatus.REJECTED);
-
-        if (!existingReservations.isEmpty()) {
-            throw new IllegalStateException("선택한 시간은 이미 예약이 되어 있습니다. 다른 시간을 선택해주세요.");
+        // 해당 병원의 날짜와 시간이 정원(병원의 날짜 정원)만큼 찼는지 먼저 확인 (REJECTED가 아닌 예약, 슬롯 점유 인덱스로 확인)
+        // 동시에 들어온 예약은 아래 슬롯 선점에서 정원만큼만 성공
+        VetInfo vet = getReservationVet(requestDto.getVetId());
+        if (slotOccupancyIndex.isFull(vet.getId(), requestDto.getReservationDate(), requestDto.getReservationTime())) {
+            throw new IllegalStateException(ReservationSlotClaimService.SLOT_TAKEN_MESSAGE);
         }
 
         Reservation reservation = Reservation.builder()
                 .user(user)
                 .pet(pet)
+                .vetInfo(vet)
                 .reservationDate(requestDto.getReservationDate())
                 .reservationTime(requestDto.getReservationTime())
                 .status(ReservationStatus.PENDING)  // 기본 상태는 대기중
@@ -73,13 +136,13 @@ public class ReservationService {
                 .build();
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        reservationSlotClaimService.claim(savedReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.created(savedReservation));
 
         // TODO: 알림 기능 추가 (관리자)
 
         //관리자 1명 고정
-        User admin = userRepository.findByRole(UserRole.ROLE_ADMIN)
-                .stream().findFirst()
-                .orElseThrow(()-> new IllegalStateException("관리자 계정이 존재하지 않습니다."));
+        Long adminId = getAdminId(savedReservation);
 
         //알림 Dto에 저장
         ReservationNotificationDto dto = ReservationNotificationDto.from(savedReservation);
@@ -87,8 +150,8 @@ public class ReservationService {
         dto.setContent(content);
 
         //전송
-        notificationService.notifyUser(
-                admin.getId(),
+        notificationOutboxService.enqueue(
+                adminId,
                 NotificationType.RESERVATION,
                 content,
                 dto
@@ -100,23 +163,37 @@ public class ReservationService {
     // 예약 목록 조회 (사용자별)
     public List<ReservationResponseDto> getUserReservations(Long userId) {
         User user = getUser(userId);
-        List<Reservation> reservations = reservationRepository.findByUserOrderByReservationDateDescReservationTimeDesc(user);
+        return reservationRepository.findResponsesByUserId(user.getId(), null, null, null, Limit.unlimited());
+    }
 
-        return reservations.stream()
-                .map(ReservationResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    // 예약 목록 페이지 조회 (사용자별, 최신순)
+    public ReservationPageResponseDto getUserReservationPage(Long userId, String cursor, int size) {
+        User user = getUser(userId);
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        return toPage(reservationRepository.findResponsesByUserId(user.getId(),
+                after != null ? after.date() : null,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageLimit(size)), size);
     }
 
     // 예약 목록 조회 (반려동물별)
     public List<ReservationResponseDto> getPetReservations(Long petId) {
         Pet pet = petRepository.findById(petId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
+        return reservationRepository.findResponsesByPetId(pet.getId(), null, null, null, Limit.unlimited());
+    }
 
-        List<Reservation> reservations = reservationRepository.findByPetOrderByReservationDateDescReservationTimeDesc(pet);
-
-        return reservations.stream()
-                .map(ReservationResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    // 예약 목록 페이지 조회 (반려동물별, 최신순)
+    public ReservationPageResponseDto getPetReservationPage(Long petId, String cursor, int size) {
+        Pet pet = petRepository.findById(petId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반려동물입니다."));
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        return toPage(reservationRepository.findResponsesByPetId(pet.getId(),
+                after != null ? after.date() : null,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageLimit(size)), size);
     }
 
     // 예약 상세 조회
@@ -156,21 +233,24 @@ public class ReservationService {
             LocalDate newDate = requestDto.getReservationDate() != null ? requestDto.getReservationDate() : reservation.getReservationDate();
             LocalTime newTime = requestDto.getReservationTime() != null ? requestDto.getReservationTime() : reservation.getReservationTime();
 
-            // 해당 날짜와 시간에 다른 예약이 있는지 확인
-            List<Reservation> existingReservations = reservationRepository.findByReservationDateAndReservationTimeAndStatusNot(
-                    newDate, newTime, ReservationStatus.REJECTED);
-
-            // 현재 수정 중인 예약을 제외한 다른 예약이 있는지 확인
-            boolean hasOtherReservation = existingReservations.stream()
-                    .anyMatch(r -> !r.getId().equals(reservation.getId()));
-
-            if (hasOtherReservation) {
-                throw new IllegalStateException("선택한 시간은 이미 예약이 되어 있습니다. 다른 시간을 선택해주세요.");
+            // 해당 날짜와 시간이 정원만큼 찼는지 확인 (날짜/시간이 바뀌므로 현재 예약과는 다른 슬롯)
+            if (slotOccupancyIndex.isFull(reservation.getVetInfo().getId(), newDate, newTime)) {
+                throw new IllegalStateException(ReservationSlotClaimService.SLOT_TAKEN_MESSAGE);
             }
         }
 
         // 예약 정보 업데이트
+        ReservationSnapshot before = ReservationSnapshot.from(reservation);
         reservation.updateReservationFromDto(requestDto);
+        if (reservation.getStatus() != ReservationStatus.REJECTED
+                && (!reservation.getReservationDate().equals(before.getReservationDate())
+                || !reservation.getReservationTime().equals(before.getReservationTime()))) {
+            reservationSlotClaimService.move(reservation);
+            if (reservation.getDoctor() != null) {
+                checkDoctorAvailable(reservation.getDoctor().getId(), reservation);
+            }
+        }
+        eventPublisher.publishEvent(ReservationChangedEvent.updated(before, reservation));
 
         // TODO: 알림 기능 추가 (의료진/관리자)
         ReservationNotificationDto dto = ReservationNotificationDto.from(reservation);
@@ -178,7 +258,7 @@ public class ReservationService {
         dto.setContent(content);
 
         //예약자에게 전송
-        notificationService.notifyUser(
+        notificationOutboxService.enqueue(
                 reservation.getUser().getId(),
                 NotificationType.RESERVATION,
                 content,
@@ -186,12 +266,10 @@ public class ReservationService {
         );
 
         //관리자에게 전송
-        User admin = userRepository.findByRole(UserRole.ROLE_ADMIN)
-                .stream().findFirst()
-                .orElseThrow(()-> new IllegalStateException("관리자 계정이 존재하지 않습니다."));
+        Long adminId = getAdminId(reservation);
 
-        notificationService.notifyUser(
-                admin.getId(),
+        notificationOutboxService.enqueue(
+                adminId,
                 NotificationType.RESERVATION,
                 content,
                 dto
@@ -199,7 +277,7 @@ public class ReservationService {
 
         //담당의에게 전송
         if(reservation.getDoctor() != null){
-            notificationService.notifyUser(
+            notificationOutboxService.enqueue(
                     reservation.getDoctor().getId(),
                     NotificationType.RESERVATION,
                     content,
@@ -223,20 +301,20 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
 
-        User doctor = userRepository.findById(requestDto.getDoctorId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 의사입니다."));
-
         // 의사인지 확인
-        if (!doctor.getRole().equals(UserRole.ROLE_STAFF)) {
-            throw new IllegalArgumentException("의료진만 담당의로 지정할 수 있습니다.");
-        }
+        StaffDirectoryEntry doctor = getStaff(requestDto.getDoctorId());
 
         // 의사 상태 확인
-        if (!doctor.getStatus().equals(UserStatus.ON_DUTY)) {
+        if (doctor.status() != UserStatus.ON_DUTY) {
             throw new IllegalArgumentException("현재 진료 가능한 상태가 아닌 의료진입니다.");
         }
 
-        reservation.updateDoctor(doctor);
+        checkDoctorVet(doctor.vetId(), reservation);
+        checkDoctorAvailable(doctor.id(), reservation);
+
+        ReservationSnapshot before = ReservationSnapshot.from(reservation);
+        reservation.updateDoctor(userRepository.getReferenceById(doctor.id()));
+        eventPublisher.publishEvent(ReservationChangedEvent.updated(before, reservation));
 
         return ReservationResponseDto.fromEntity(reservation);
     }
@@ -259,7 +337,10 @@ public class ReservationService {
         }
 
         // 예약 상태 업데이트
+        ReservationSnapshot before = ReservationSnapshot.from(reservation);
         reservation.updateReservationStatusFromDto(requestDto);
+        reservationSlotClaimService.statusChanged(reservation, before.getStatus());
+        eventPublisher.publishEvent(ReservationChangedEvent.updated(before, reservation));
 
         // TODO: 알림 기능 추가 (사용자, 의료진)
 
@@ -275,7 +356,7 @@ public class ReservationService {
         if(content != null){
             dto.setContent(content);
             //예약자 알림
-            notificationService.notifyUser(
+            notificationOutboxService.enqueue(
                     reservation.getUser().getId(),
                     NotificationType.RESERVATION,
                     content,
@@ -284,7 +365,7 @@ public class ReservationService {
 
             //담당의 알림
             if(reservation.getDoctor() != null){
-                notificationService.notifyUser(
+                notificationOutboxService.enqueue(
                         reservation.getDoctor().getId(),
                         NotificationType.RESERVATION,
                         content,
@@ -296,7 +377,185 @@ public class ReservationService {
         return ReservationResponseDto.fromEntity(reservation);
     }
 
+    // 예약 일괄 처리 (관리자) - 담당의 배정/상태 변경을 한 트랜잭션으로 적용, 하나라도 실패하면 전체 롤백
+    @Transactional
+    public List<ReservationResponseDto> triageReservations(Long userId, ReservationTriageRequestDto requestDto) {
+        User currentUser = getUser(userId);
+
+        // 관리자 권한 확인
+        if (!currentUser.isAdmin()) {
+            throw new IllegalArgumentException("상태 변경 권한이 없습니다.");
+        }
+
+        List<ReservationTriageItemDto> items = requestDto.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("처리할 예약이 없습니다.");
+        }
+        if (items.size() > MAX_TRIAGE_ITEMS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_TRIAGE_ITEMS + "건까지 처리할 수 있습니다.");
+        }
+
+        Set<Long> reservationIds = new LinkedHashSet<>();
+        Set<Long> doctorIds = new HashSet<>();
+        for (ReservationTriageItemDto item : items) {
+            if (item.getReservationId() == null) {
+                throw new IllegalArgumentException("예약 ID 가 없습니다.");
+            }
+            if (!reservationIds.add(item.getReservationId())) {
+                throw new IllegalArgumentException("같은 예약이 중복되었습니다: " + item.getReservationId());
+            }
+            if (item.getDoctorId() != null) {
+                doctorIds.add(item.getDoctorId());
+            }
+        }
+
+        // 예약 (보호자/반려동물/담당의 포함) 한 번에 조회
+        Map<Long, Reservation> reservations = new HashMap<>();
+        for (Reservation reservation : reservationRepository.findAllWithDetailsByIdIn(reservationIds)) {
+            reservations.put(reservation.getId(), reservation);
+        }
+        if (reservations.size() != reservationIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 예약입니다.");
+        }
+
+        // 담당의 한 번에 조회 후 확인
+        Map<Long, User> doctors = new HashMap<>();
+        for (User doctor : userRepository.findAllById(doctorIds)) {
+            if (doctor.getRole() != UserRole.ROLE_STAFF) {
+                throw new IllegalArgumentException("의료진만 담당의로 지정할 수 있습니다.");
+            }
+            if (doctor.getStatus() != UserStatus.ON_DUTY) {
+                throw new IllegalArgumentException("현재 진료 가능한 상태가 아닌 의료진입니다.");
+            }
+            doctors.put(doctor.getId(), doctor);
+        }
+        if (doctors.size() != doctorIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 의사입니다.");
+        }
+
+        // 관련 담당의 일정 한 번에 조회 - 변경 적용 전에 조회해야 쿼리 직전 자동 flush 로 UPDATE 배치가 쪼개지지 않음
+        // (이번 요청의 예약은 변경 후 상태로 따로 반영하므로 제외)
+        Set<Long> scheduleDoctorIds = new HashSet<>(doctorIds);
+        Set<LocalDate> dates = new HashSet<>();
+        for (Reservation reservation : reservations.values()) {
+            dates.add(reservation.getReservationDate());
+            if (reservation.getDoctor() != null) {
+                scheduleDoctorIds.add(reservation.getDoctor().getId());
+            }
+        }
+        Set<DoctorSlot> doctorSlots = new HashSet<>();
+        if (!scheduleDoctorIds.isEmpty()) {
+            for (Object[] row : reservationRepository.findDoctorSlotsOn(scheduleDoctorIds, dates)) {
+                if (!reservations.containsKey((Long) row[1])) {
+                    doctorSlots.add(new DoctorSlot((Long) row[0], (LocalDate) row[2], (LocalTime) row[3]));
+                }
+            }
+        }
+
+        // 변경 적용 (UPDATE 는 flush 시점에 JDBC 배치로 나감)
+        List<Reservation> triaged = new ArrayList<>();
+        List<Reservation> scheduleChecks = new ArrayList<>(); // 담당의가 바뀌었거나 승인거부에서 되돌린 예약
+        List<Long> released = new ArrayList<>();
+        List<Reservation> reclaimed = new ArrayList<>();
+        Map<Long, List<ReservationNotificationDto>> notifications = new LinkedHashMap<>();
+        for (ReservationTriageItemDto item : items) {
+            Reservation reservation = reservations.get(item.getReservationId());
+            ReservationSnapshot before = ReservationSnapshot.from(reservation);
+
+            if (item.getDoctorId() != null) {
+                User doctor = doctors.get(item.getDoctorId());
+                checkDoctorVet(doctor.getVetInfo() != null ? doctor.getVetInfo().getId() : null, reservation);
+                reservation.updateDoctor(doctor);
+            }
+            if (item.getStatus() != null) {
+                if (ReservationStatus.APPROVED.equals(item.getStatus()) && reservation.getDoctor() == null) {
+                    throw new IllegalArgumentException("담당의가 배정되지 않은 예약은 승인할 수 없습니다.");
+                }
+                reservation.updateReservationStatusFromDto(new ReservationStatusUpdateRequestDto(item.getStatus()));
+            }
+
+            // 슬롯 선점 - 승인거부되면 해제, 승인거부에서 되돌리면 다시 선점
+            boolean wasClaimed = before.getStatus() != ReservationStatus.REJECTED;
+            boolean isClaimed = reservation.getStatus() != ReservationStatus.REJECTED;
+            if (wasClaimed && !isClaimed) {
+                released.add(reservation.getId());
+            } else if (!wasClaimed && isClaimed) {
+                reclaimed.add(reservation);
+            }
+
+            eventPublisher.publishEvent(ReservationChangedEvent.updated(before, reservation));
+            triaged.add(reservation);
+            if (item.getDoctorId() != null || before.getStatus() == ReservationStatus.REJECTED) {
+                scheduleChecks.add(reservation);
+            }
+
+            // 상태가 승인/승인거부로 바뀐 예약만 알림 (예약자, 담당의)
+            if (item.getStatus() == null || before.getStatus() == reservation.getStatus()) {
+                continue;
+            }
+            ReservationNotificationDto dto = ReservationNotificationDto.from(reservation);
+            if (reservation.getStatus() == ReservationStatus.APPROVED) {
+                dto.setContent(NotificationMessageUtil.buildReservationStatusApproved(dto));
+            } else if (reservation.getStatus() == ReservationStatus.REJECTED) {
+                dto.setContent(NotificationMessageUtil.buildReservationStatusRejected(dto));
+            } else {
+                continue;
+            }
+            notifications.computeIfAbsent(reservation.getUser().getId(), key -> new ArrayList<>()).add(dto);
+            if (reservation.getDoctor() != null) {
+                notifications.computeIfAbsent(reservation.getDoctor().getId(), key -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        // 담당의 일정 확인 (변경 후 상태 기준, 같은 요청 안의 예약끼리도 확인) - 의료진 한 명은 같은 시간에 예약 하나만
+        for (Reservation reservation : triaged) {
+            if (!scheduleChecks.contains(reservation)) {
+                addDoctorSlot(doctorSlots, reservation);
+            }
+        }
+        for (Reservation reservation : scheduleChecks) {
+            if (!addDoctorSlot(doctorSlots, reservation)) {
+                throw new IllegalStateException("담당의가 같은 시간에 다른 예약을 진료합니다: " + reservation.getId());
+            }
+        }
+
+        // 해제를 먼저 해야 같은 요청 안에서 비워진 슬롯을 다른 예약이 다시 선점할 수 있음
+        reservationSlotClaimService.releaseAll(released);
+        for (Reservation reservation : reclaimed) {
+            reservationSlotClaimService.claim(reservation);
+        }
+
+        // 사용자마다 알림 한 건으로 묶어서 전송 (여러 건이면 data 는 예약 목록이고 SSE 는 reservation-batch 이벤트로 나감)
+        notifications.forEach((recipientId, dtos) -> {
+            if (dtos.size() == 1) {
+                notificationOutboxService.enqueue(recipientId, NotificationType.RESERVATION, dtos.get(0).getContent(), dtos.get(0));
+                return;
+            }
+            StringJoiner content = new StringJoiner("\n", "예약 " + dtos.size() + "건의 상태가 변경되었습니다.\n", "");
+            dtos.forEach(dto -> content.add(dto.getContent()));
+            notificationOutboxService.enqueue(recipientId, NotificationType.RESERVATION, content.toString(), dtos);
+        });
+
+        return triaged.stream()
+                .map(ReservationResponseDto::fromEntity)
+                .toList();
+    }
+
     // 예약 취소
+    // 반려동물/회원 삭제로 함께(CASCADE) 삭제될 예약 정리 - 삭제 전에 같은 트랜잭션에서 호출
+    // (reservation_vet_slot_claim 에는 FK 가 없어 선점 행이 남으면 그 자리가 계속 차 있는 것으로 보임)
+    @Transactional
+    public void releaseDeletedReservations(Collection<Reservation> reservations) {
+        Map<Long, Reservation> byId = new LinkedHashMap<>();
+        reservations.forEach(reservation -> byId.putIfAbsent(reservation.getId(), reservation));
+        if (byId.isEmpty()) {
+            return;
+        }
+        reservationSlotClaimService.releaseAll(byId.keySet());
+        byId.values().forEach(reservation ->
+                eventPublisher.publishEvent(ReservationChangedEvent.cancelled(ReservationSnapshot.from(reservation))));
+    }
+
     @Transactional
     public void cancelReservation(Long userId, Long reservationId) {
         User currentUser = getUser(userId);
@@ -314,6 +573,8 @@ public class ReservationService {
         }
 
         reservationRepository.delete(reservation);
+        reservationSlotClaimService.release(reservation.getId());
+        eventPublisher.publishEvent(ReservationChangedEvent.cancelled(ReservationSnapshot.from(reservation)));
 
         // TODO: 알림 기능 추가 (예약취소)
         ReservationNotificationDto dto = ReservationNotificationDto.from(reservation);
@@ -322,25 +583,23 @@ public class ReservationService {
 
         //대기중 취소로 관리자에게만 알림
         if(reservation.getStatus() == ReservationStatus.PENDING){
-            User admin = userRepository.findByRole(UserRole.ROLE_ADMIN)
-                    .stream().findFirst()
-                    .orElseThrow(()-> new IllegalStateException("관리자 계정이 존재하지 않습니다."));
-            notificationService.notifyUser(
-                    admin.getId(),
+            Long adminId = getAdminId(reservation);
+            notificationOutboxService.enqueue(
+                    adminId,
                     NotificationType.RESERVATION,
                     content,
                     dto
             );
             //확정이후 취소로 예약자 담당의에게 알림
         }else if (reservation.getStatus() == ReservationStatus.APPROVED){
-            notificationService.notifyUser(
+            notificationOutboxService.enqueue(
                     reservation.getUser().getId(),
                     NotificationType.RESERVATION,
                     content,
                     dto
             );
             if(reservation.getDoctor() != null) {
-                notificationService.notifyUser(
+                notificationOutboxService.enqueue(
                         reservation.getDoctor().getId(),
                         NotificationType.RESERVATION,
                         content,
@@ -354,68 +613,191 @@ public class ReservationService {
 
     // 날짜별 예약 조회 (관리자/의료진용)
     public List<ReservationResponseDto> getReservationsByDate(LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findByReservationDateOrderByReservationTime(date);
+        return reservationRepository.findResponsesByReservationDate(date, null, null, Limit.unlimited());
+    }
 
-        return reservations.stream()
-                .map(ReservationResponseDto::fromEntity)
-                .collect(Collectors.toList());
+    // 날짜별 예약 페이지 조회 (관리자/의료진용, 시간순)
+    public ReservationPageResponseDto getReservationPageByDate(LocalDate date, String cursor, int size) {
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        if (after != null && !after.date().equals(date)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return toPage(reservationRepository.findResponsesByReservationDate(date,
+                after != null ? after.time() : null,
+                after != null ? after.id() : null,
+                pageLimit(size)), size);
+    }
+
+    // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+    private Limit pageLimit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return Limit.of(size + 1);
+    }
+
+    private ReservationPageResponseDto toPage(List<ReservationResponseDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ReservationResponseDto> reservations = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ReservationResponseDto last = reservations.get(reservations.size() - 1);
+            nextCursor = new ReservationCursor(last.getReservationDate(), last.getReservationTime(), last.getId()).encode();
+        }
+        return ReservationPageResponseDto.builder()
+                .reservations(reservations)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     // 예약 가능한 시간 슬롯 조회
-    public List<TimeSlotResponseDto> getAvailableTimeSlots(LocalDate date) {
-        // 해당 날짜에 이미 예약된 시간 목록 조회
-        List<LocalTime> reservedTimes = reservationRepository.findNonRejectedTimesByDate(date);
+    public List<TimeSlotResponseDto> getAvailableTimeSlots(LocalDate date, Long vetId) {
+        // 해당 병원의 날짜에 정원만큼 찬 슬롯 (비트 i = i 번째 시간)
+        short fullMask = slotOccupancyIndex.fullMask(getReservationVet(vetId).getId(), date);
 
         // 모든 가능한 시간 슬롯에 대해 예약 가능 여부 확인
-        return Reservation.RESERVATION_TIMES.stream()
-                .map(time -> TimeSlotResponseDto.builder()
+        List<TimeSlotResponseDto> slots = new ArrayList<>(Reservation.RESERVATION_TIMES.size());
+        for (int i = 0; i < Reservation.RESERVATION_TIMES.size(); i++) {
+            slots.add(TimeSlotResponseDto.builder()
+                    .time(Reservation.RESERVATION_TIMES.get(i))
+                    .available((fullMask & (1 << i)) == 0)
+                    .build());
+        }
+        return slots;
+    }
+
+    // 가장 빠른 예약 가능 슬롯 조회 - from 부터 days 일을 한 번에 훑어 앞에서부터 count 개
+    public List<AvailableSlotResponseDto> getNextAvailableSlots(int count, LocalDate from, int days,
+                                                                ReservationType type, Long doctorId, Long vetId) {
+        if (count < 1 || count > MAX_NEXT_AVAILABLE_COUNT) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_NEXT_AVAILABLE_COUNT + " 사이여야 합니다.");
+        }
+        if (days < 1 || days > MAX_NEXT_AVAILABLE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1~" + MAX_NEXT_AVAILABLE_DAYS + "일 사이여야 합니다.");
+        }
+
+        // 담당의를 지정한 경우 진료 중인 의료진일 때만, 그 의료진 소속 병원으로 예약 가능
+        Long slotVetId;
+        if (doctorId != null) {
+            StaffDirectoryEntry doctor = getStaff(doctorId);
+            if (doctor.status() != UserStatus.ON_DUTY || doctor.vetId() == null
+                    || (vetId != null && !vetId.equals(doctor.vetId()))) {
+                return List.of();
+            }
+            slotVetId = doctor.vetId();
+        } else {
+            slotVetId = getReservationVet(vetId).getId();
+        }
+
+        // 지난 날짜/시간은 제외
+        LocalDate today = LocalDate.now();
+        LocalTime now = LocalTime.now();
+        LocalDate startDate = from == null || from.isBefore(today) ? today : from;
+        short[] fullMasks = slotOccupancyIndex.fullMasks(slotVetId, startDate, days);
+
+        // 담당의를 지정한 경우 그 의료진이 이미 맡은 시간도 제외
+        if (doctorId != null) {
+            for (Object[] row : reservationRepository.findDoctorSlotsBetween(doctorId, startDate, startDate.plusDays(days))) {
+                int day = (int) (((LocalDate) row[0]).toEpochDay() - startDate.toEpochDay());
+                int slot = Reservation.RESERVATION_TIMES.indexOf((LocalTime) row[1]);
+                if (slot >= 0) {
+                    fullMasks[day] = (short) (fullMasks[day] | (1 << slot));
+                }
+            }
+        }
+
+        List<AvailableSlotResponseDto> slots = new ArrayList<>(count);
+        for (int day = 0; day < days && slots.size() < count; day++) {
+            LocalDate date = startDate.plusDays(day);
+            for (int i = 0; i < Reservation.RESERVATION_TIMES.size() && slots.size() < count; i++) {
+                LocalTime time = Reservation.RESERVATION_TIMES.get(i);
+                if ((fullMasks[day] & (1 << i)) != 0 || (date.equals(today) && !time.isAfter(now))) {
+                    continue;
+                }
+                slots.add(AvailableSlotResponseDto.builder()
+                        .date(date)
                         .time(time)
-                        .available(!reservedTimes.contains(time))
-                        .build())
-                .collect(Collectors.toList());
+                        .type(type)
+                        .build());
+            }
+        }
+        return slots;
     }
 
-    // 월별 예약 일정 조회 (캘린더 표시용)
+    // 월별 예약 일정 조회 (캘린더 표시용) - 월 단위 캐시, 예약이 바뀐 달만 다시 집계
     public Map<String, Object> getMonthlyReservationCalendar(int year, int month) {
-        // 해당 달의 예약이 있는 날짜 목록 조회
-        List<LocalDate> reservationDates = reservationRepository.findReservationDatesByYearAndMonth(year, month);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return reservationCalendarCache.get(yearMonth, () -> buildMonthlyReservationCalendar(yearMonth));
+    }
 
-        // 해당 달의 날짜별 예약 수 계산
-        Map<LocalDate, Long> reservationCountByDate = reservationDates.stream()
-                .collect(Collectors.groupingBy(date -> date, Collectors.counting()));
+    private Map<String, Object> buildMonthlyReservationCalendar(YearMonth yearMonth) {
+        // 해당 달의 날짜별·상태별 예약 수 (예약일, 전체, 대기, 승인, 승인거부)
+        Map<LocalDate, Object[]> countsByDate = new HashMap<>();
+        for (Object[] row : reservationRepository.countByReservationDateBetween(
+                yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1))) {
+            countsByDate.put((LocalDate) row[0], row);
+        }
 
         // 해당 달의 모든 날짜 생성
-        YearMonth yearMonth = YearMonth.of(year, month);
-        List<Map<String, Object>> calendarDays = new ArrayList<>();
+        List<Map<String, Object>> calendarDays = new ArrayList<>(yearMonth.lengthOfMonth());
 
         for (int i = 1; i <= yearMonth.lengthOfMonth(); i++) {
-            LocalDate date = LocalDate.of(year, month, i);
+            LocalDate date = yearMonth.atDay(i);
+            Object[] counts = countsByDate.get(date);
             Map<String, Object> dayInfo = new HashMap<>();
             dayInfo.put("date", date);
-            dayInfo.put("hasReservation", reservationCountByDate.containsKey(date));
-            dayInfo.put("count", reservationCountByDate.getOrDefault(date, 0L));
-            calendarDays.add(dayInfo);
+            dayInfo.put("hasReservation", counts != null);
+            dayInfo.put("count", countAt(counts, 1));
+            dayInfo.put("pendingCount", countAt(counts, 2));
+            dayInfo.put("approvedCount", countAt(counts, 3));
+            dayInfo.put("rejectedCount", countAt(counts, 4));
+            calendarDays.add(Collections.unmodifiableMap(dayInfo));
         }
 
+        // 캐시에서 여러 요청이 함께 쓰므로 수정할 수 없게 반환
         Map<String, Object> result = new HashMap<>();
-        result.put("year", year);
-        result.put("month", month);
-        result.put("days", calendarDays);
+        result.put("year", yearMonth.getYear());
+        result.put("month", yearMonth.getMonthValue());
+        result.put("days", Collections.unmodifiableList(calendarDays));
 
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
-    @Transactional
+    private long countAt(Object[] counts, int index) {
+        return counts != null && counts[index] != null ? ((Number) counts[index]).longValue() : 0L;
+    }
+
+    // 의료진의 승인된 예약 목록 (진료기록 작성 여부 포함, 한 번의 조회)
     public List<ReservationResponseDto> getApprovedReservationsForDoctor(Long doctorId) {
-        List<Reservation> reservations = reservationRepository.findByDoctorIdAndStatus(doctorId, ReservationStatus.APPROVED);
-
-        return reservations.stream()
-                .map(reservation -> {
-                    boolean hasRecord = medicalRecordRepository.existsByReservationId(reservation.getId());
-                    return ReservationResponseDto.fromEntity(reservation, hasRecord);
-                })
-                .collect(Collectors.toList());
+        return reservationRepository.findApprovedResponsesByDoctorId(doctorId);
+    }
+
+    // 의료진 진료 목록 - 기간을 지정하지 않으면 오늘
+    public List<DoctorWorklistItemDto> getDoctorWorklist(Long doctorId, LocalDate startDate, LocalDate endDate) {
+        LocalDate start = startDate != null ? startDate : LocalDate.now();
+        LocalDate end = endDate != null ? endDate : start;
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        // 시작일·종료일 모두 포함하므로 종료일은 시작일 + (MAX_WORKLIST_DAYS - 1)일까지
+        if (start.plusDays(MAX_WORKLIST_DAYS - 1).isBefore(end)) {
+            throw new IllegalArgumentException("진료 목록은 최대 " + MAX_WORKLIST_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        return reservationRepository.findWorklist(doctorId, start, end);
+    }
+    // 담당의 일정에 예약 추가 - 같은 시간에 이미 맡은 예약이 있으면 false (승인거부/담당의 없음은 항상 true)
+    private static boolean addDoctorSlot(Set<DoctorSlot> doctorSlots, Reservation reservation) {
+        if (reservation.getStatus() == ReservationStatus.REJECTED || reservation.getDoctor() == null) {
+            return true;
+        }
+        return doctorSlots.add(new DoctorSlot(reservation.getDoctor().getId(),
+                reservation.getReservationDate(), reservation.getReservationTime()));
+    }
+
+    private record DoctorSlot(Long doctorId, LocalDate date, LocalTime time) {
     }
+
 //    public List<ReservationResponseDto> getApprovedReservationsForDoctor(Long doctorId) {
 //        List<Reservation> reservations = reservationRepository.findByDoctorIdAndStatus(doctorId, ReservationStatus.APPROVED);
 //
@@ -0,0 +1,183 @@
+package com.petner.anidoc.domain.vet.reservation.service;
+
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationSlotClaim;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotCapacityRepository;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotClaimRepository;
+import com.petner.anidoc.domain.vet.vet.repository.VetInfoRepository;
+import com.petner.anidoc.global.ut.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ ReservationSlotClaimService
+ * - 예약 트랜잭션 안에서 reservation_vet_slot_claim 에 (병원, 날짜, 시간, 자리) 행을 넣어 슬롯의 자리를 선점
+ * - 자리는 0 ~ 정원-1 중 비어 있는 곳, 모두 차 있으면 예약 전체가 롤백됨
+ *   (같은 자리를 먼저 넣은 트랜잭션이 커밋/롤백될 때까지 DB 가 기다리게 하므로 인스턴스가 여러 개여도 안전)
+ * - 정원은 병원의 날짜별 정원 (reservation_slot_capacity) - 선점할 때 지금 진료 중인 병원 의료진 수까지 늘리고 줄이지는 않음
+ *   (근무 상태가 바뀌어도 이미 선점된 자리가 정원을 넘지 않고, 다른 날짜 정원에는 영향이 없음)
+ * - 승인거부/취소 시 해제, 날짜·시간 변경 시 해제 후 다시 선점
+ * - 반려동물/회원 삭제로 예약이 함께 삭제될 때도 해제하고, 그래도 남은 행은 주기적으로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotClaimService {
+
+    public static final String SLOT_TAKEN_MESSAGE = "선택한 시간은 이미 예약이 되어 있습니다. 다른 시간을 선택해주세요.";
+
+    private final ReservationSlotClaimRepository reservationSlotClaimRepository;
+    private final ReservationSlotCapacityRepository reservationSlotCapacityRepository;
+    private final ReservationRepository reservationRepository;
+    private final VetInfoRepository vetInfoRepository;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+
+    // 슬롯 선점 - 정원만큼 자리가 모두 차 있으면 IllegalStateException
+    // 자리는 보통 앞에서부터 차므로 현재 예약 수 위치부터 시도
+    @Transactional
+    public void claim(Reservation reservation) {
+        Long vetId = reservation.getVetInfo().getId();
+        LocalDate date = reservation.getReservationDate();
+        int capacity = recordCapacity(vetId, date);
+        int first = Math.min(slotOccupancyIndex.occupiedCount(vetId, date, reservation.getReservationTime()), capacity - 1);
+        for (int i = 0; i < capacity; i++) {
+            int seat = (first + i) % capacity;
+            if (reservationSlotClaimRepository.insertIgnore(vetId, date, reservation.getReservationTime(),
+                    seat, reservation.getId()) == 1) {
+                return;
+            }
+        }
+        throw new IllegalStateException(SLOT_TAKEN_MESSAGE);
+    }
+
+    // 날짜 정원 확인 - 기록이 없거나 지금 진료 중인 의료진 수보다 작으면 늘려서 기록
+    // 기록된 정원 이상으로는 자리를 쓰지 않으므로, 늘리는 트랜잭션이 롤백되어도 정원을 넘는 자리는 남지 않음
+    private int recordCapacity(Long vetId, LocalDate date) {
+        int current = slotOccupancyIndex.currentCapacity(vetId);
+        Integer recorded = reservationSlotCapacityRepository.findCapacity(vetId, date).orElse(null);
+        if (recorded != null && recorded >= current) {
+            return recorded;
+        }
+        if (reservationSlotCapacityRepository.insertIgnore(vetId, date, current) == 0) {
+            reservationSlotCapacityRepository.raise(vetId, date, current);
+        }
+        TransactionUtil.afterCommit(() -> slotOccupancyIndex.capacityRecorded(vetId, date, current));
+        return current;
+    }
+
+    @Transactional
+    public void release(Long reservationId) {
+        reservationSlotClaimRepository.deleteByReservationId(reservationId);
+    }
+
+    @Transactional
+    public void releaseAll(Collection<Long> reservationIds) {
+        if (!reservationIds.isEmpty()) {
+            reservationSlotClaimRepository.deleteByReservationIdIn(reservationIds);
+        }
+    }
+
+    // 예약이 없어진 선점 행 정리 - 남아 있으면 그 자리는 영영 차 있는 것으로 보임
+    @Scheduled(fixedDelayString = "${reservation.slot-index.reconcile-ms:300000}")
+    @Transactional
+    public void purgeOrphans() {
+        int purged = reservationSlotClaimRepository.deleteOrphans();
+        if (purged > 0) {
+            log.warn("예약이 없어진 슬롯 선점 {}건 정리", purged);
+        }
+    }
+
+    // 날짜·시간이 바뀐 예약의 슬롯 이동
+    @Transactional
+    public void move(Reservation reservation) {
+        release(reservation.getId());
+        claim(reservation);
+    }
+
+    // 상태 변경 반영 - 승인거부되면 해제, 승인거부에서 되돌리면 다시 선점
+    @Transactional
+    public void statusChanged(Reservation reservation, ReservationStatus before) {
+        boolean wasClaimed = before != ReservationStatus.REJECTED;
+        boolean isClaimed = reservation.getStatus() != ReservationStatus.REJECTED;
+        if (wasClaimed && !isClaimed) {
+            release(reservation.getId());
+        } else if (!wasClaimed && isClaimed) {
+            claim(reservation);
+        }
+    }
+
+    // 병원이 없는 예약(병원별 정원 도입 전)에 병원 지정 - 담당의 소속 병원, 없으면 기본 병원
+    @Transactional
+    public int assignMissingVets() {
+        int assigned = reservationRepository.assignDoctorVetToUnassigned();
+        assigned += vetInfoRepository.findFirstByOrderByIdAsc()
+                .map(vet -> reservationRepository.assignVetToUnassigned(vet.getId()))
+                .orElse(0);
+        if (assigned > 0) {
+            log.info("병원이 없는 예약 {}건에 병원 지정", assigned);
+        }
+        return assigned;
+    }
+
+    // 기존 예약으로 선점 테이블 채우기 (병원 슬롯별로 먼저 들어온 예약부터 0, 1, 2 ... 자리)
+    // 날짜 정원은 지금 진료 중인 의료진 수로 기록하되, 이미 그보다 많이 받은 날짜는 받은 수만큼으로 기록
+    @Transactional
+    public int backfill() {
+        List<ReservationSlotClaim> claims = new ArrayList<>();
+        Map<ClinicDate, Integer> seatsByDate = new LinkedHashMap<>(); // 필요한 자리 수
+        Long vetId = null;
+        LocalDate date = null;
+        LocalTime time = null;
+        int seat = 0;
+        for (Object[] row : reservationSlotClaimRepository.findNonRejectedSlotsInOrder()) {
+            if (!row[1].equals(vetId) || !row[2].equals(date) || !row[3].equals(time)) {
+                vetId = (Long) row[1];
+                date = (LocalDate) row[2];
+                time = (LocalTime) row[3];
+                seat = 0;
+            }
+            claims.add(ReservationSlotClaim.builder()
+                    .reservationId((Long) row[0])
+                    .vetId(vetId)
+                    .reservationDate(date)
+                    .reservationTime(time)
+                    .seat(seat++)
+                    .build());
+            seatsByDate.merge(new ClinicDate(vetId, date), seat, Math::max);
+        }
+        reservationSlotClaimRepository.saveAll(claims);
+
+        int[] overbooked = {0};
+        seatsByDate.forEach((key, seats) -> {
+            int current = slotOccupancyIndex.currentCapacity(key.vetId());
+            if (seats > current) {
+                overbooked[0]++;
+            }
+            int capacity = Math.max(seats, current);
+            if (reservationSlotCapacityRepository.insertIgnore(key.vetId(), key.date(), capacity) == 0) {
+                reservationSlotCapacityRepository.raise(key.vetId(), key.date(), capacity);
+            }
+        });
+        if (overbooked[0] > 0) {
+            log.warn("진료 중인 의료진 수보다 많은 예약을 받은 날짜가 {}일 있습니다. 해당 날짜는 받은 예약 수를 정원으로 기록합니다.", overbooked[0]);
+        }
+        log.info("예약 슬롯 선점 테이블 채우기 완료: {}건", claims.size());
+        return claims.size();
+    }
+
+    private record ClinicDate(Long vetId, LocalDate date) {
+    }
+}
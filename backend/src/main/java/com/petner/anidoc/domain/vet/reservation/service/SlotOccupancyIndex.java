@@ -0,0 +1,311 @@
+package com.petner.anidoc.domain.vet.reservation.service;
+
+import com.petner.anidoc.domain.user.user.service.StaffDirectory;
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationChangedEvent;
+import com.petner.anidoc.domain.vet.reservation.event.ReservationSnapshot;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotCapacityRepository;
+import com.petner.anidoc.domain.vet.reservation.util.SlotCounterMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * ✅ SlotOccupancyIndex
+ * - 병원별로 날짜·시간 슬롯마다 승인거부되지 않은 예약 수를 메모리에 유지 (병원마다 SlotCounterMap)
+ * - 슬롯 정원은 병원의 날짜별 정원 - 예약을 받은 날짜는 기록된 정원(ReservationSlotCapacity)과 지금 진료 중인
+ *   의료진 수 중 큰 값, 아직 예약이 없는 날짜는 지금 진료 중인 그 병원 의료진 수 (없으면 1)
+ * - 시작 시 DB 에서 적재하고, 예약 생성/수정/상태 변경/취소가 커밋되면 해당 슬롯 수만 갱신
+ * - 예약 가능 시간 조회와 중복 예약 확인은 DB 대신 이 인덱스로 응답
+ * - 주기적으로 오늘 이후 예약을 DB 와 대조해 어긋난 슬롯을 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotOccupancyIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotCapacityRepository reservationSlotCapacityRepository;
+    private final StaffDirectory staffDirectory;
+
+    // 적재 범위(오늘 - historyDays) 이전 날짜는 DB 에서 직접 조회
+    @Value("${reservation.slot-index.history-days:30}")
+    private int historyDays;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, SlotCounterMap> counters = new HashMap<>(); // 병원 ID → 슬롯별 예약 수
+    private Map<Long, Map<Integer, Integer>> capacities = new HashMap<>(); // 병원 ID → 날짜별 기록된 정원
+    private LocalDate loadedFrom; // null 이면 아직 적재 전
+
+    // 인덱스가 바뀔 때마다 증가 - 대조 도중 바뀐 날짜는 이번 대조에서 고치지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    // 지금 진료 중인 병원 의료진 수, 없으면 1 (기존처럼 슬롯당 한 건)
+    public int currentCapacity(Long vetId) {
+        return Math.max(1, staffDirectory.countOnDutyStaff(vetId));
+    }
+
+    // 병원의 날짜 정원 - 기록된 정원보다 줄지 않음
+    public int capacity(Long vetId, LocalDate date) {
+        Integer recorded = recordedCapacity(vetId, date);
+        int current = currentCapacity(vetId);
+        return recorded == null ? current : Math.max(recorded, current);
+    }
+
+    // 해당 슬롯의 예약 수
+    public int occupiedCount(Long vetId, LocalDate date, LocalTime time) {
+        int slot = Reservation.RESERVATION_TIMES.indexOf(time);
+        if (slot < 0) {
+            return 0;
+        }
+        lock.readLock().lock();
+        try {
+            if (covers(date)) {
+                SlotCounterMap clinic = counters.get(vetId);
+                return clinic == null ? 0 : clinic.get(toKey(date), slot);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Collections.frequency(reservationRepository.findNonRejectedTimesByDate(vetId, date), time);
+    }
+
+    // 해당 날짜의 마감 슬롯 마스크 (비트 i = Reservation.RESERVATION_TIMES 의 i 번째 슬롯)
+    public short fullMask(Long vetId, LocalDate date) {
+        int capacity = capacity(vetId, date);
+        lock.readLock().lock();
+        try {
+            if (covers(date)) {
+                SlotCounterMap clinic = counters.get(vetId);
+                return clinic == null ? 0 : clinic.fullMask(toKey(date), capacity);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        SlotCounterMap loaded = new SlotCounterMap(1);
+        int key = toKey(date);
+        for (LocalTime time : reservationRepository.findNonRejectedTimesByDate(vetId, date)) {
+            count(loaded, key, time);
+        }
+        return loaded.fullMask(key, capacity);
+    }
+
+    // from 부터 days 일 동안의 마감 슬롯 마스크 (인덱스 범위 밖이면 DB 한 번 조회)
+    public short[] fullMasks(Long vetId, LocalDate from, int days) {
+        int current = currentCapacity(vetId);
+        int fromKey = toKey(from);
+        short[] result = new short[days];
+        lock.readLock().lock();
+        try {
+            if (covers(from)) {
+                SlotCounterMap clinic = counters.get(vetId);
+                Map<Integer, Integer> recorded = capacities.getOrDefault(vetId, Map.of());
+                for (int i = 0; clinic != null && i < days; i++) {
+                    int capacity = Math.max(recorded.getOrDefault(fromKey + i, 0), current);
+                    result[i] = clinic.fullMask(fromKey + i, capacity);
+                }
+                return result;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        LocalDate until = from.plusDays(days);
+        SlotCounterMap loaded = new SlotCounterMap(days);
+        for (Object[] row : reservationRepository.findNonRejectedSlotsBetween(vetId, from, until)) {
+            count(loaded, toKey((LocalDate) row[0]), (LocalTime) row[1]);
+        }
+        Map<Integer, Integer> recorded = new HashMap<>();
+        for (Object[] row : reservationSlotCapacityRepository.findCapacitiesBetween(vetId, from, until)) {
+            recorded.put(toKey((LocalDate) row[0]), (Integer) row[1]);
+        }
+        for (int i = 0; i < days; i++) {
+            result[i] = loaded.fullMask(fromKey + i, Math.max(recorded.getOrDefault(fromKey + i, 0), current));
+        }
+        return result;
+    }
+
+    public boolean isFull(Long vetId, LocalDate date, LocalTime time) {
+        return occupiedCount(vetId, date, time) >= capacity(vetId, date);
+    }
+
+    // 날짜 정원 기록 반영 (선점이 커밋된 뒤 호출됨) - 기록된 정원은 줄지 않으므로 큰 값만 남김
+    public void capacityRecorded(Long vetId, LocalDate date, int capacity) {
+        lock.writeLock().lock();
+        try {
+            if (covers(date)) {
+                capacities.computeIfAbsent(vetId, key -> new HashMap<>()).merge(toKey(date), capacity, Math::max);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 예약 변경 반영 (커밋 이후 호출됨)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            version.incrementAndGet();
+            if (loadedFrom == null) {
+                return; // 적재 시 DB 에서 읽으므로 반영할 필요 없음
+            }
+            apply(event.getBefore(), -1);
+            apply(event.getAfter(), 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 에서 전체 적재
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        LocalDate from = LocalDate.now().minusDays(historyDays);
+        long loadedVersion = version.get();
+        Map<Long, SlotCounterMap> loaded = load(from);
+        Map<Long, Map<Integer, Integer>> loadedCapacities = loadCapacities(from);
+
+        int days = 0;
+        lock.writeLock().lock();
+        try {
+            if (version.get() != loadedVersion) {
+                log.info("슬롯 점유 인덱스 적재 중 바뀐 예약은 다음 대조에서 맞춥니다.");
+            }
+            counters = loaded;
+            capacities = loadedCapacities;
+            loadedFrom = from;
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (SlotCounterMap clinic : loaded.values()) {
+            days += clinic.size();
+        }
+        log.info("슬롯 점유 인덱스 적재 완료: 병원 {}곳, {}일", loaded.size(), days);
+        return days;
+    }
+
+    // 오늘 이후 날짜를 DB 와 대조 (예약 가능 여부에 영향을 주는 범위)
+    @Scheduled(fixedDelayString = "${reservation.slot-index.reconcile-ms:300000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        if (loadedFrom == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int todayKey = toKey(today);
+        long loadedVersion = version.get();
+        Map<Long, SlotCounterMap> actual = load(today);
+        Map<Long, Map<Integer, Integer>> actualCapacities = loadCapacities(today);
+
+        lock.writeLock().lock();
+        try {
+            // 다른 인스턴스에서 기록된 정원 (줄지 않으므로 큰 값만 반영)
+            actualCapacities.forEach((vetId, days) -> days.forEach((key, capacity) ->
+                    capacities.computeIfAbsent(vetId, id -> new HashMap<>()).merge(key, capacity, Math::max)));
+
+            if (version.get() != loadedVersion) {
+                return; // 대조하는 동안 예약이 바뀜 - 다음 주기에 다시 확인
+            }
+            int[] fixed = {0};
+            // 인덱스에만 있는 예약 (DB 에는 없음)
+            counters.forEach((vetId, clinic) -> {
+                SlotCounterMap actualClinic = actual.getOrDefault(vetId, new SlotCounterMap(1));
+                clinic.forEach((key, slot, count) -> {
+                    if (key >= todayKey && actualClinic.get(key, slot) == 0) {
+                        clinic.put(key, slot, 0);
+                        fixed[0]++;
+                    }
+                });
+            });
+            // DB 와 수가 다른 슬롯
+            actual.forEach((vetId, actualClinic) -> {
+                SlotCounterMap clinic = counters.computeIfAbsent(vetId, id -> new SlotCounterMap());
+                actualClinic.forEach((key, slot, count) -> {
+                    if (clinic.get(key, slot) != count) {
+                        clinic.put(key, slot, count);
+                        fixed[0]++;
+                    }
+                });
+            });
+            if (fixed[0] > 0) {
+                log.warn("슬롯 점유 인덱스 보정: {}개 슬롯", fixed[0]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Integer recordedCapacity(Long vetId, LocalDate date) {
+        lock.readLock().lock();
+        try {
+            if (covers(date)) {
+                return capacities.getOrDefault(vetId, Map.of()).get(toKey(date));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return reservationSlotCapacityRepository.findCapacity(vetId, date).orElse(null);
+    }
+
+    private Map<Long, SlotCounterMap> load(LocalDate from) {
+        Map<Long, SlotCounterMap> loaded = new HashMap<>();
+        try (Stream<Object[]> rows = reservationRepository.streamNonRejectedSlotsFrom(from)) {
+            rows.forEach(row -> count(loaded.computeIfAbsent((Long) row[0], id -> new SlotCounterMap()),
+                    toKey((LocalDate) row[1]), (LocalTime) row[2]));
+        }
+        return loaded;
+    }
+
+    private Map<Long, Map<Integer, Integer>> loadCapacities(LocalDate from) {
+        Map<Long, Map<Integer, Integer>> loaded = new HashMap<>();
+        for (Object[] row : reservationSlotCapacityRepository.findAllFrom(from)) {
+            loaded.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put(toKey((LocalDate) row[1]), (Integer) row[2]);
+        }
+        return loaded;
+    }
+
+    private static void count(SlotCounterMap target, int key, LocalTime time) {
+        int slot = Reservation.RESERVATION_TIMES.indexOf(time);
+        if (slot >= 0) {
+            target.add(key, slot, 1);
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(ReservationSnapshot snapshot, int delta) {
+        if (snapshot == null || snapshot.getReservationVetId() == null
+                || snapshot.getStatus() == ReservationStatus.REJECTED || !covers(snapshot.getReservationDate())) {
+            return;
+        }
+        int slot = Reservation.RESERVATION_TIMES.indexOf(snapshot.getReservationTime());
+        if (slot >= 0) {
+            counters.computeIfAbsent(snapshot.getReservationVetId(), id -> new SlotCounterMap())
+                    .add(toKey(snapshot.getReservationDate()), slot, delta);
+        }
+    }
+
+    private boolean covers(LocalDate date) {
+        return loadedFrom != null && date != null && !date.isBefore(loadedFrom);
+    }
+
+    private static int toKey(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+}
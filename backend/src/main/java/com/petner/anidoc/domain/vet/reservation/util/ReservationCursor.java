@@ -0,0 +1,36 @@
+package com.petner.anidoc.domain.vet.reservation.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 커서 (마지막으로 받은 예약의 예약일, 예약시간, ID)
+ * - 정렬 키를 그대로 담아 다음 페이지를 OFFSET 없이 WHERE 조건으로 이어서 조회
+ * - 클라이언트에는 URL 에 그대로 넣을 수 있는 문자열로 전달
+ */
+public record ReservationCursor(LocalDate date, LocalTime time, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = date + SEPARATOR + time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 비어 있으면 첫 페이지 (null)
+    public static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new ReservationCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
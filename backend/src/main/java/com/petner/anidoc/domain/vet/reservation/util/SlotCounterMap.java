@@ -0,0 +1,127 @@
+package com.petner.anidoc.domain.vet.reservation.util;
+
+import java.util.Arrays;
+
+/**
+ * 날짜(epochDay) → 시간 슬롯별 예약 수 해시맵
+ * - 날짜마다 슬롯 16개의 예약 수를 counts 배열에 이어서 저장 (박싱 없음, open addressing)
+ *   (날짜 위치 i 의 슬롯 s = counts[i * SLOTS + s])
+ * - 한 번 들어간 날짜는 지우지 않음 (예약 수가 0 이 되어도 자리를 유지)
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+ */
+public class SlotCounterMap {
+
+    public static final int SLOTS = 16;
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private short[] counts;
+    private int size;
+
+    public SlotCounterMap() {
+        this(1024);
+    }
+
+    public SlotCounterMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new int[capacity];
+        counts = new short[capacity * SLOTS];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    // 없는 날짜는 0 (빈 날)
+    public int get(int key, int slot) {
+        int index = indexOf(key, keys);
+        return keys[index] == key ? counts[index * SLOTS + slot] : 0;
+    }
+
+    // 예약 수가 capacity 이상인 슬롯의 마스크 (비트 s = s 번째 슬롯)
+    public short fullMask(int key, int capacity) {
+        int index = indexOf(key, keys);
+        if (keys[index] != key) {
+            return 0;
+        }
+        int mask = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[index * SLOTS + slot] >= capacity) {
+                mask |= 1 << slot;
+            }
+        }
+        return (short) mask;
+    }
+
+    // 예약 수 증감 (0 미만으로 내려가지 않음)
+    public void add(int key, int slot, int delta) {
+        int position = slotIndexOf(key) * SLOTS + slot;
+        counts[position] = (short) Math.max(0, counts[position] + delta);
+    }
+
+    public void put(int key, int slot, int count) {
+        counts[slotIndexOf(key) * SLOTS + slot] = (short) count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 예약이 있는 (날짜, 슬롯) 마다 호출
+    public void forEach(Entry consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == EMPTY) {
+                continue;
+            }
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (counts[i * SLOTS + slot] != 0) {
+                    consumer.accept(keys[i], slot, counts[i * SLOTS + slot]);
+                }
+            }
+        }
+    }
+
+    // 날짜 위치 (없으면 추가)
+    private int slotIndexOf(int key) {
+        int index = indexOf(key, keys);
+        if (keys[index] != key) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                grow();
+                index = indexOf(key, keys);
+            }
+            keys[index] = key;
+            size++;
+        }
+        return index;
+    }
+
+    // 키가 있으면 그 위치, 없으면 들어갈 빈 위치
+    private static int indexOf(int key, int[] table) {
+        int mask = table.length - 1;
+        int hash = key * 0x9E3779B9;
+        int index = (hash ^ (hash >>> 16)) & mask;
+        while (table[index] != EMPTY && table[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        short[] oldCounts = counts;
+        keys = new int[oldKeys.length << 1];
+        counts = new short[keys.length * SLOTS];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i], keys);
+                keys[index] = oldKeys[i];
+                System.arraycopy(oldCounts, i * SLOTS, counts, index * SLOTS, SLOTS);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(int key, int slot, int count);
+    }
+}
@@ -1,5 +1,7 @@
 package com.petner.anidoc.domain.vet.vaccination.service;
 
+import com.petner.anidoc.domain.statistics.service.DashboardLiveCounters;
+import com.petner.anidoc.domain.statistics.service.DashboardStatsCache;
 import com.petner.anidoc.domain.user.pet.entity.Pet;
 import com.petner.anidoc.domain.user.pet.repository.PetRepository;
 import com.petner.anidoc.domain.user.user.entity.User;
@@ -29,6 +31,8 @@ public class DoctorPetVaccineService {
     private final PetRepository petRepository;
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final DashboardLiveCounters dashboardLiveCounters;
 
 
     //등록
@@ -62,7 +66,10 @@ public class DoctorPetVaccineService {
                 .notes(doctorPetVaccineRequestDTO.getNotes())
                 .build();
 
-        return vaccinationRepository.save(vaccination);
+        Vaccination savedVaccination = vaccinationRepository.save(vaccination);
+        dashboardStatsCache.evictTreatment(pet.getOwner().getId(), doctor);
+        dashboardLiveCounters.vaccinationChanged(savedVaccination, 1);
+        return savedVaccination;
     }
     //수정
     @Transactional
@@ -73,6 +80,7 @@ public class DoctorPetVaccineService {
         if (!vaccination.getDoctor().getId().equals(currentDoctor.getId())) {
             throw new AccessDeniedException("본인이 등록한 예방접종만 수정할 수 있습니다.");
         }
+        User previousDoctor = vaccination.getDoctor();
         User doctor = userRepository.findById(doctorPetVaccineRequestDTO.getDoctorId())
                 .orElseThrow(() -> new RuntimeException("의사 정보가 없습니다."));
         Reservation reservation = reservationRepository.findById(doctorPetVaccineRequestDTO.getReservationId())
@@ -83,6 +91,9 @@ public class DoctorPetVaccineService {
                 reservation,
                 doctorPetVaccineRequestDTO
         );
+        dashboardStatsCache.evictTreatment(vaccination.getPet().getOwner().getId(), previousDoctor);
+        dashboardStatsCache.evictTreatment(vaccination.getPet().getOwner().getId(), doctor);
+        dashboardLiveCounters.vaccinationDoctorChanged(vaccination, previousDoctor);
 
         return new DoctorPetVaccineResponseDTO(vaccination);
     }
@@ -124,6 +135,8 @@ public class DoctorPetVaccineService {
         }
 
         vaccinationRepository.delete(vaccination);
+        dashboardStatsCache.evictTreatment(vaccination.getPet().getOwner().getId(), vaccination.getDoctor());
+        dashboardLiveCounters.vaccinationChanged(vaccination, -1);
     }
 
     @Transactional(readOnly = true)
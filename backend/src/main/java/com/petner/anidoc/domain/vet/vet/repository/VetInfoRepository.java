@@ -10,4 +10,6 @@ import java.util.Optional;
 public interface VetInfoRepository extends JpaRepository<VetInfo, Long> {
     boolean existsByVetNumber(String vetNumber);
     Optional<VetInfo> findByVetNumber(String vetNumber);
+    // 기본 병원 (가장 먼저 등록된 병원)
+    Optional<VetInfo> findFirstByOrderByIdAsc();
 }
\ No newline at end of file
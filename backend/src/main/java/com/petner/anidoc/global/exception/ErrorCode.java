@@ -53,7 +53,13 @@ public enum ErrorCode {
     INVALID_STOCK_VALUE(HttpStatus.BAD_REQUEST, "재고는 0 이상이어야 합니다."),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "재고가 부족합니다."),
     INVALID_DECREASE_AMOUNT(HttpStatus.BAD_REQUEST, "차감할 수량은 0보다 커야 합니다."),
-    INVALID_INCREASE_AMOUNT(HttpStatus.BAD_REQUEST, "증가할 수량은 0보다 커야 합니다.");
+    INVALID_INCREASE_AMOUNT(HttpStatus.BAD_REQUEST, "증가할 수량은 0보다 커야 합니다."),
+
+    // 알림 관련 오류
+    NO_NOTIFICATION_PERMISSION(HttpStatus.FORBIDDEN, "본인의 알림만 읽음 처리할 수 있습니다."),
+
+    // 통계 관련 오류
+    NO_VET_STATISTICS_PERMISSION(HttpStatus.FORBIDDEN, "소속 병원의 통계만 조회할 수 있습니다.");
 
     // HTTP 상태 코드와 메시지
     private final HttpStatus httpStatus;
@@ -0,0 +1,25 @@
+package com.petner.anidoc.global.init;
+
+import com.petner.anidoc.domain.statistics.repository.DailyVisitRollupRepository;
+import com.petner.anidoc.domain.statistics.service.DailyVisitRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 집계 테이블이 비어 있으면(최초 배포 등) 기존 진료기록으로 채움
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class DailyVisitRollupInitializer implements CommandLineRunner {
+
+    private final DailyVisitRollupRepository dailyVisitRollupRepository;
+    private final DailyVisitRollupService dailyVisitRollupService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (dailyVisitRollupRepository.count() == 0) {
+            dailyVisitRollupService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.petner.anidoc.global.init;
+
+import com.petner.anidoc.domain.statistics.service.DistinctPetSketchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 저장된 고유 반려동물 스케치를 메모리로 읽고 마지막 저장 이후 진료기록을 반영
+@Order(4)
+@Component
+@RequiredArgsConstructor
+public class DistinctPetSketchInitializer implements CommandLineRunner {
+
+    private final DistinctPetSketchService distinctPetSketchService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        distinctPetSketchService.load();
+    }
+}
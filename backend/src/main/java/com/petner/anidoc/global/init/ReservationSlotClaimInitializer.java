@@ -0,0 +1,27 @@
+package com.petner.anidoc.global.init;
+
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotClaimRepository;
+import com.petner.anidoc.domain.vet.reservation.service.ReservationSlotClaimService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 병원이 없는 예약에 병원을 지정하고, 슬롯 선점 테이블이 비어 있으면(최초 배포 등) 기존 예약으로 채움
+// (슬롯 점유 인덱스가 적재하기 전에 실행 - 병원과 날짜 정원을 함께 읽음)
+@Order(6)
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotClaimInitializer implements CommandLineRunner {
+
+    private final ReservationSlotClaimRepository reservationSlotClaimRepository;
+    private final ReservationSlotClaimService reservationSlotClaimService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        reservationSlotClaimService.assignMissingVets();
+        if (reservationSlotClaimRepository.count() == 0) {
+            reservationSlotClaimService.backfill();
+        }
+    }
+}
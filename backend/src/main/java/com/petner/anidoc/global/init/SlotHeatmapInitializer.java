@@ -0,0 +1,25 @@
+package com.petner.anidoc.global.init;
+
+import com.petner.anidoc.domain.statistics.repository.SlotHeatmapCellRepository;
+import com.petner.anidoc.domain.statistics.service.SlotHeatmapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 시간대 수요 집계 테이블이 비어 있으면(최초 배포 등) 기존 예약으로 채움
+@Order(5)
+@Component
+@RequiredArgsConstructor
+public class SlotHeatmapInitializer implements CommandLineRunner {
+
+    private final SlotHeatmapCellRepository slotHeatmapCellRepository;
+    private final SlotHeatmapService slotHeatmapService;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (slotHeatmapCellRepository.count() == 0) {
+            slotHeatmapService.rebuild();
+        }
+    }
+}
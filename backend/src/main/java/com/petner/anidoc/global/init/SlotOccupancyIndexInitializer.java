@@ -0,0 +1,21 @@
+package com.petner.anidoc.global.init;
+
+import com.petner.anidoc.domain.vet.reservation.service.SlotOccupancyIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 예약 슬롯 점유 인덱스를 DB 에서 적재 (적재 전 조회는 DB 로 처리됨)
+@Order(7)
+@Component
+@RequiredArgsConstructor
+public class SlotOccupancyIndexInitializer implements CommandLineRunner {
+
+    private final SlotOccupancyIndex slotOccupancyIndex;
+
+    @Override
+    public void run(String... args) throws Exception {
+        slotOccupancyIndex.rebuild();
+    }
+}
@@ -0,0 +1,64 @@
+package com.petner.anidoc.global.rq;
+
+import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import com.petner.anidoc.global.exception.CustomException;
+import com.petner.anidoc.global.exception.ErrorCode;
+import com.petner.anidoc.global.security.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+
+/**
+ * ✅ CurrentVet: 현재 요청 사용자의 소속 병원
+ * - 통계/집계/캐시는 병원(vet_id) 단위로 나뉘므로, 요청마다 소속 병원을 한 번만 조회해 재사용
+ * - 소속 병원이 없는 사용자(보호자, 병원 미지정 관리자)는 null → 전체 병원 기준
+ */
+@RequestScope
+@Component
+@RequiredArgsConstructor
+public class CurrentVet {
+
+    private final UserRepository userRepository;
+
+    private boolean resolved;
+    private Long vetId;
+
+    // ✅ 소속 병원 ID (없으면 null)
+    public Long getVetId() {
+        if (!resolved) {
+            vetId = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                    .map(Authentication::getPrincipal)
+                    .filter(principal -> principal instanceof SecurityUser)
+                    .map(principal -> ((SecurityUser) principal).getId())
+                    .flatMap(userRepository::findVetIdById)
+                    .orElse(null);
+            resolved = true;
+        }
+        return vetId;
+    }
+
+    // ✅ 조회 대상 병원 결정 - 소속 병원이 있으면 자기 병원만 조회 가능
+    public Long scope(Long requestedVetId) {
+        Long ownVetId = getVetId();
+        if (ownVetId == null) {
+            return requestedVetId;
+        }
+        if (requestedVetId != null && !ownVetId.equals(requestedVetId)) {
+            throw new CustomException(ErrorCode.NO_VET_STATISTICS_PERMISSION);
+        }
+        return ownVetId;
+    }
+
+    // ✅ 조회 대상 의료진 확인 - 소속 병원이 있으면 같은 병원 의료진만 조회 가능
+    public Long scopeDoctor(Long doctorId) {
+        Long ownVetId = getVetId();
+        if (ownVetId != null && !userRepository.findVetIdById(doctorId).map(ownVetId::equals).orElse(false)) {
+            throw new CustomException(ErrorCode.NO_VET_STATISTICS_PERMISSION);
+        }
+        return doctorId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.petner.anidoc.global.security;
 
 import com.petner.anidoc.global.rq.Rq;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -61,7 +62,8 @@ public class SecurityConfig {
                 // ✅ 경로별 인가 정책 설정
                 .authorizeHttpRequests(authorizeRequests ->
                         authorizeRequests
-
+                                // 비동기 응답(스트리밍) 마무리 디스패치는 최초 요청에서 이미 인가됨
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers("/h2-console/**").permitAll()
                                 .requestMatchers("/api/users/register", "/api/users/login", "/api/users/logout").permitAll()
                                 .requestMatchers("/api/users/emailCheck").permitAll()
@@ -0,0 +1,26 @@
+package com.petner.anidoc.global.ut;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ✅ 트랜잭션 관련 유틸리티 클래스
+ * - 커밋 이후에만 반영되어야 하는 메모리 상태(캐시, 카운터 등) 갱신에 사용
+ */
+public class TransactionUtil {
+
+    // ✅ 현재 트랜잭션 커밋 후 실행 (트랜잭션이 없으면 즉시 실행)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petner.anidoc.domain.statistics.entity.ClosedPeriodStat;
+import com.petner.anidoc.domain.statistics.repository.ClosedPeriodStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClosedPeriodStatCacheTest {
+
+    private static final LocalDate START = LocalDate.now().minusDays(10);
+    private static final LocalDate END = LocalDate.now().minusDays(3);
+
+    private ClosedPeriodStatRepository repository;
+    private ClosedPeriodStatCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ClosedPeriodStatRepository.class);
+        cache = new ClosedPeriodStatCache(repository, new ObjectMapper(), new NoOpTransactionManager());
+    }
+
+    @Test
+    void closedPeriodIsComputedOnceAndStored() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Integer first = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, () -> loads.incrementAndGet() * 10);
+        Integer second = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, () -> loads.incrementAndGet() * 10);
+
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(10);
+        assertThat(loads).hasValue(1);
+        verify(repository, times(1)).save(any(ClosedPeriodStat.class));
+    }
+
+    @Test
+    void storedRowIsUsedWithoutComputing() {
+        when(repository.findByKey(ClosedPeriodStatCache.VISITS, 1L, START, END))
+                .thenReturn(List.of(ClosedPeriodStat.builder().payload("7").build()));
+
+        Integer value = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, () -> {
+            throw new AssertionError("저장된 값이 있으면 계산하지 않아야 함");
+        });
+
+        assertThat(value).isEqualTo(7);
+        verify(repository, never()).save(any(ClosedPeriodStat.class));
+    }
+
+    @Test
+    void allClinicsAreStoredUnderSentinelKey() {
+        ArgumentCaptor<ClosedPeriodStat> saved = ArgumentCaptor.forClass(ClosedPeriodStat.class);
+
+        cache.get(ClosedPeriodStatCache.VISITS, null, START, END, Integer.class, () -> 3);
+
+        // null 은 유니크 키로 중복을 막지 못하므로 전체 병원 기준은 ALL_VETS 로 조회/저장
+        verify(repository).findByKey(ClosedPeriodStatCache.VISITS, ClosedPeriodStat.ALL_VETS, START, END);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getVetId()).isEqualTo(ClosedPeriodStat.ALL_VETS);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Integer stale = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(START.plusDays(1), 1L); // 계산 도중 해당 기간의 데이터가 바뀜
+            return 1;
+        });
+        Integer fresh = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, () -> {
+            loads.incrementAndGet();
+            return 2;
+        });
+
+        assertThat(stale).isEqualTo(1);
+        assertThat(fresh).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+        // 무효화 이후 저장된 이전 값도 지워야 함
+        verify(repository).deleteByKey(ClosedPeriodStatCache.VISITS, 1L, START, END);
+        verify(repository).deleteCovering(eq(START.plusDays(1)), eq(1L));
+    }
+
+    @Test
+    void invalidationAfterLoadEvictsEntry() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, loads::incrementAndGet);
+
+        cache.invalidate(START, 1L);
+        Integer value = cache.get(ClosedPeriodStatCache.VISITS, 1L, START, END, Integer.class, loads::incrementAndGet);
+
+        assertThat(value).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void openPeriodIsNeverCached() {
+        AtomicInteger loads = new AtomicInteger();
+        LocalDate end = LocalDate.now().plusDays(1);
+
+        cache.get(ClosedPeriodStatCache.VISITS, 1L, START, end, Integer.class, loads::incrementAndGet);
+        cache.get(ClosedPeriodStatCache.VISITS, 1L, START, end, Integer.class, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+        verify(repository, never()).save(any(ClosedPeriodStat.class));
+    }
+
+    // 저장/삭제를 별도 트랜잭션으로 감싸는 부분만 흉내 냄
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
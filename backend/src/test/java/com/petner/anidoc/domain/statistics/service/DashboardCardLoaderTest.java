@@ -0,0 +1,125 @@
+package com.petner.anidoc.domain.statistics.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardCardLoaderTest {
+
+    private DashboardCardLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    void serialRunsCardsOnCallerThreadInOrder() {
+        loader = new DashboardCardLoader(TransactionOperations.withoutTransaction(), false, 100);
+        Thread caller = Thread.currentThread();
+        StringBuilder order = new StringBuilder();
+
+        LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+        cards.put("a", () -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            order.append('a');
+            return 1;
+        });
+        cards.put("b", () -> {
+            order.append('b');
+            return 2;
+        });
+
+        DashboardCardLoader.Cards result = loader.load(cards);
+
+        assertThat(order).hasToString("ab");
+        assertThat(result.getInt("a")).isEqualTo(1);
+        assertThat(result.getInt("b")).isEqualTo(2);
+        assertThat(result.isComplete()).isTrue();
+    }
+
+    @Test
+    void parallelRunsCardsConcurrently() {
+        loader = new DashboardCardLoader(TransactionOperations.withoutTransaction(), true, 2000);
+        // 두 카드가 모두 시작해야 끝날 수 있음 - 직렬로 실행되면 실패
+        CountDownLatch started = new CountDownLatch(2);
+
+        LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+        cards.put("a", () -> awaitOther(started, 1));
+        cards.put("b", () -> awaitOther(started, 2));
+
+        DashboardCardLoader.Cards result = loader.load(cards);
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getInt("a")).isEqualTo(1);
+        assertThat(result.getInt("b")).isEqualTo(2);
+    }
+
+    @Test
+    void timedOutCardIsMissingAndInterrupted() throws InterruptedException {
+        loader = new DashboardCardLoader(TransactionOperations.withoutTransaction(), true, 100);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+        cards.put("fast", () -> 3);
+        cards.put("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 4;
+        });
+
+        long start = System.nanoTime();
+        DashboardCardLoader.Cards result = loader.load(cards);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(result.getInt("fast")).isEqualTo(3);
+        assertThat(result.getInt("slow")).isNull();
+        assertThat(result.missing()).containsExactly("slow");
+        // 시간 초과된 카드는 계속 실행되지 않도록 인터럽트됨
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failedCardIsMissing() {
+        loader = new DashboardCardLoader(TransactionOperations.withoutTransaction(), true, 2000);
+
+        LinkedHashMap<String, Supplier<?>> cards = new LinkedHashMap<>();
+        cards.put("ok", () -> 5);
+        cards.put("broken", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        DashboardCardLoader.Cards result = loader.load(cards);
+
+        assertThat(result.getInt("ok")).isEqualTo(5);
+        assertThat(result.getInt("broken")).isNull();
+        assertThat(result.missing()).isEqualTo(List.of("broken"));
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    private static int awaitOther(CountDownLatch started, int value) {
+        started.countDown();
+        try {
+            if (!started.await(1, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("카드가 동시에 실행되지 않음");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.petner.anidoc.domain.statistics.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void smallCountsAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= 100; id++) {
+            sketch.add(id);
+        }
+
+        assertThat(sketch.estimate()).isBetween(95L, 105L);
+    }
+
+    @Test
+    void largeCountsStayWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= 100_000; id++) {
+            sketch.add(id);
+        }
+
+        // 표준오차 약 1.6% - 여유 있게 5% 이내
+        assertThat(sketch.estimate()).isBetween(95_000L, 105_000L);
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= 1000; id++) {
+            sketch.add(id);
+        }
+        long estimate = sketch.estimate();
+
+        for (long id = 1; id <= 1000; id++) {
+            assertThat(sketch.add(id)).isFalse();
+        }
+        assertThat(sketch.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    void mergeEstimatesUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (long id = 1; id <= 20_000; id++) {
+            left.add(id);
+            union.add(id);
+        }
+        for (long id = 10_001; id <= 30_000; id++) {
+            right.add(id);
+            union.add(id);
+        }
+
+        left.merge(right);
+
+        // 레지스터별 최댓값이므로 전체를 한 스케치에 넣은 것과 같아야 함
+        assertThat(left.toBytes()).isEqualTo(union.toBytes());
+        assertThat(left.estimate()).isBetween(28_500L, 31_500L);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long id = 1; id <= 5000; id++) {
+            sketch.add(id);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+    }
+
+    @Test
+    void rejectsMismatchedSketches() {
+        assertThatThrownBy(() -> new HyperLogLog(12).merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[100]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.petner.anidoc.domain.user.notification.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEventRingTest {
+
+    @Test
+    void coversEverythingAfterStartUntilFull() {
+        SseEventRing ring = new SseEventRing(3, 100);
+        ring.add(101, "notification", "a");
+        ring.add(102, "notification", "b");
+
+        assertThat(ring.covers(100)).isTrue();
+        assertThat(ring.covers(101)).isTrue();
+        // 링을 만들기 전에 잃어버린 이벤트 이전에서 끊긴 경우
+        assertThat(ring.covers(99)).isFalse();
+        assertThat(ring.lastId()).isEqualTo(102);
+    }
+
+    @Test
+    void overwrittenEventsAreNotCovered() {
+        SseEventRing ring = new SseEventRing(3, 0);
+        for (long id = 1; id <= 5; id++) {
+            ring.add(id, "notification", id);
+        }
+
+        // 1, 2 는 덮어써짐 - 2 까지 받은 클라이언트만 재전송으로 복구 가능
+        assertThat(ring.covers(1)).isFalse();
+        assertThat(ring.covers(2)).isTrue();
+        assertThat(ring.covers(5)).isTrue();
+        assertThat(ring.size()).isEqualTo(3);
+    }
+
+    @Test
+    void forEachAfterReturnsNewerEventsInOrder() {
+        SseEventRing ring = new SseEventRing(3, 0);
+        for (long id = 1; id <= 5; id++) {
+            ring.add(id, "e" + id, id);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        ring.forEachAfter(3, (id, name, data) -> {
+            ids.add(id);
+            names.add(name);
+        });
+
+        assertThat(ids).containsExactly(4L, 5L);
+        assertThat(names).containsExactly("e4", "e5");
+    }
+
+    @Test
+    void emptyRingLastIdIsEvictedUpTo() {
+        assertThat(new SseEventRing(4, 42).lastId()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,263 @@
+package com.petner.anidoc.domain.vet.reservation.service;
+
+import com.petner.anidoc.domain.user.pet.entity.Gender;
+import com.petner.anidoc.domain.user.pet.entity.Pet;
+import com.petner.anidoc.domain.user.pet.repository.PetRepository;
+import com.petner.anidoc.domain.user.user.entity.User;
+import com.petner.anidoc.domain.user.user.entity.UserRole;
+import com.petner.anidoc.domain.user.user.repository.UserRepository;
+import com.petner.anidoc.domain.vet.reservation.dto.ReservationStatusUpdateRequestDto;
+import com.petner.anidoc.domain.vet.reservation.entity.Reservation;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationSlotCapacity;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationSlotClaim;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationStatus;
+import com.petner.anidoc.domain.vet.reservation.entity.ReservationType;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationRepository;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotCapacityRepository;
+import com.petner.anidoc.domain.vet.reservation.repository.ReservationSlotClaimRepository;
+import com.petner.anidoc.domain.vet.vet.entity.VetInfo;
+import com.petner.anidoc.domain.vet.vet.repository.VetInfoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 슬롯 선점이 병원의 날짜 정원을 넘지 않는지 확인 (H2 test 프로필)
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationSlotClaimServiceTest {
+
+    private static final LocalTime TIME = Reservation.RESERVATION_TIMES.get(0);
+
+    @Autowired
+    private ReservationSlotClaimService reservationSlotClaimService;
+    @Autowired
+    private ReservationSlotClaimRepository reservationSlotClaimRepository;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PetRepository petRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationSlotCapacityRepository reservationSlotCapacityRepository;
+    @Autowired
+    private VetInfoRepository vetInfoRepository;
+
+    private User owner;
+    private Pet pet;
+    private LocalDate date;
+    private VetInfo vet;
+    private VetInfo otherVet;
+    private final List<Reservation> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("보호자")
+                .email("claim-owner-" + System.nanoTime() + "@happy.com")
+                .password("test")
+                .phoneNumber("010-0000-0000")
+                .role(UserRole.ROLE_USER)
+                .build());
+        pet = petRepository.save(Pet.builder()
+                .owner(owner)
+                .name("claim")
+                .gender(Gender.MALE)
+                .species("강아지")
+                .build());
+        // 다른 데이터와 겹치지 않도록 먼 미래 날짜 (테스트마다 다른 날짜)
+        date = LocalDate.now().plusYears(5).plusDays(System.nanoTime() % 1000);
+        // 초기 데이터의 병원 두 곳
+        List<VetInfo> vets = vetInfoRepository.findAll().stream()
+                .sorted(Comparator.comparing(VetInfo::getId))
+                .toList();
+        vet = vets.get(0);
+        otherVet = vets.get(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationSlotClaimService.releaseAll(created.stream().map(Reservation::getId).toList());
+        reservationRepository.deleteAll(created);
+        reservationSlotCapacityRepository.deleteAll(reservationSlotCapacityRepository.findAll().stream()
+                .filter(capacity -> capacity.getReservationDate().equals(date))
+                .toList());
+        petRepository.delete(pet);
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void concurrentClaimsNeverExceedCapacity() throws Exception {
+        int capacity = slotOccupancyIndex.capacity(vet.getId(), date);
+        int requests = capacity * 4 + 4;
+        List<Reservation> reservations = newReservations(vet, requests);
+
+        AtomicInteger claimed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Reservation reservation : reservations) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservationSlotClaimService.claim(reservation);
+                        claimed.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // 자리가 없거나 잠금 대기 시간 초과 - 어느 쪽이든 선점하지 못함
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        List<ReservationSlotClaim> claims = claimsOf(reservations);
+        assertThat(claims).hasSize(claimed.get());
+        assertThat(claims.size()).isBetween(1, capacity);
+        // 자리마다 한 예약만
+        assertThat(claims.stream().map(ReservationSlotClaim::getSeat).collect(Collectors.toSet()))
+                .hasSize(claims.size())
+                .allMatch(seat -> seat >= 0 && seat < capacity);
+    }
+
+    @Test
+    void releasedSeatCanBeClaimedAgain() {
+        int capacity = slotOccupancyIndex.capacity(vet.getId(), date);
+        List<Reservation> reservations = newReservations(vet, capacity + 1);
+
+        for (int i = 0; i < capacity; i++) {
+            reservationSlotClaimService.claim(reservations.get(i));
+        }
+        Reservation waiting = reservations.get(capacity);
+        assertThatThrownBy(() -> reservationSlotClaimService.claim(waiting))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ReservationSlotClaimService.SLOT_TAKEN_MESSAGE);
+
+        Reservation released = reservations.get(0);
+        int releasedSeat = claimsOf(List.of(released)).get(0).getSeat();
+        reservationSlotClaimService.release(released.getId());
+        reservationSlotClaimService.claim(waiting);
+
+        assertThat(claimsOf(List.of(released))).isEmpty();
+        assertThat(claimsOf(List.of(waiting))).singleElement()
+                .extracting(ReservationSlotClaim::getSeat)
+                .isEqualTo(releasedSeat);
+        assertThat(claimsOf(reservations)).hasSize(capacity);
+    }
+
+    @Test
+    void rejectionReleasesAndRestoreReclaims() {
+        Reservation reservation = newReservations(vet, 1).get(0);
+        reservationSlotClaimService.claim(reservation);
+
+        reservation.updateReservationStatusFromDto(new ReservationStatusUpdateRequestDto(ReservationStatus.REJECTED));
+        reservationSlotClaimService.statusChanged(reservation, ReservationStatus.PENDING);
+        assertThat(claimsOf(List.of(reservation))).isEmpty();
+
+        reservation.updateReservationStatusFromDto(new ReservationStatusUpdateRequestDto(ReservationStatus.APPROVED));
+        reservationSlotClaimService.statusChanged(reservation, ReservationStatus.REJECTED);
+        assertThat(claimsOf(List.of(reservation))).hasSize(1);
+    }
+
+    @Test
+    void clinicsHaveSeparateSeats() {
+        int capacity = slotOccupancyIndex.capacity(vet.getId(), date);
+        List<Reservation> reservations = newReservations(vet, capacity + 1);
+        for (int i = 0; i < capacity; i++) {
+            reservationSlotClaimService.claim(reservations.get(i));
+        }
+        assertThatThrownBy(() -> reservationSlotClaimService.claim(reservations.get(capacity)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 다른 병원의 같은 슬롯은 따로 셈
+        Reservation other = newReservations(otherVet, 1).get(0);
+        reservationSlotClaimService.claim(other);
+        assertThat(claimsOf(List.of(other))).singleElement()
+                .extracting(ReservationSlotClaim::getVetId)
+                .isEqualTo(otherVet.getId());
+    }
+
+    @Test
+    void recordedCapacityIsKeptForDate() {
+        // 의료진이 줄기 전에 더 큰 정원으로 예약을 받은 날짜
+        int current = slotOccupancyIndex.currentCapacity(vet.getId());
+        int recorded = current + 2;
+        reservationSlotCapacityRepository.save(ReservationSlotCapacity.builder()
+                .vetId(vet.getId())
+                .reservationDate(date)
+                .capacity(recorded)
+                .build());
+
+        List<Reservation> reservations = newReservations(vet, recorded + 1);
+        for (int i = 0; i < recorded; i++) {
+            reservationSlotClaimService.claim(reservations.get(i));
+        }
+        assertThatThrownBy(() -> reservationSlotClaimService.claim(reservations.get(recorded)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(claimsOf(reservations))
+                .allMatch(claim -> claim.getSeat() < recorded);
+
+        // 기록된 정원은 지금 의료진 수로 줄어들지 않음
+        assertThat(reservationSlotCapacityRepository.findCapacity(vet.getId(), date)).contains(recorded);
+        slotOccupancyIndex.reconcile();
+        assertThat(slotOccupancyIndex.capacity(vet.getId(), date)).isEqualTo(recorded);
+    }
+
+    @Test
+    void firstClaimRecordsCurrentCapacity() {
+        Reservation reservation = newReservations(vet, 1).get(0);
+        reservationSlotClaimService.claim(reservation);
+
+        assertThat(reservationSlotCapacityRepository.findCapacity(vet.getId(), date))
+                .contains(slotOccupancyIndex.currentCapacity(vet.getId()));
+    }
+
+    private List<Reservation> newReservations(VetInfo reservationVet, int count) {
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reservations.add(Reservation.builder()
+                    .user(owner)
+                    .pet(pet)
+                    .vetInfo(reservationVet)
+                    .reservationDate(date)
+                    .reservationTime(TIME)
+                    .status(ReservationStatus.PENDING)
+                    .type(ReservationType.GENERAL)
+                    .build());
+        }
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        created.addAll(saved);
+        return saved;
+    }
+
+    private List<ReservationSlotClaim> claimsOf(List<Reservation> reservations) {
+        Set<Long> ids = reservations.stream().map(Reservation::getId).collect(Collectors.toSet());
+        return reservationSlotClaimRepository.findAll().stream()
+                .filter(claim -> ids.contains(claim.getReservationId()))
+                .toList();
+    }
+}
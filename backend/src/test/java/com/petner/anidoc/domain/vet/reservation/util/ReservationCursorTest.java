@@ -0,0 +1,37 @@
+package com.petner.anidoc.domain.vet.reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationCursorTest {
+
+    @Test
+    void encodeAndDecode() {
+        ReservationCursor cursor = new ReservationCursor(LocalDate.of(2025, 5, 31), LocalTime.of(14, 30), 1234L);
+
+        String encoded = cursor.encode();
+
+        // URL 에 그대로 넣을 수 있어야 함
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(ReservationCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        assertThat(ReservationCursor.decode(null)).isNull();
+        assertThat(ReservationCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> ReservationCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReservationCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.petner.anidoc.domain.vet.reservation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotCounterMapTest {
+
+    @Test
+    void addAndGet() {
+        SlotCounterMap map = new SlotCounterMap();
+        map.add(100, 3, 1);
+        map.add(100, 3, 1);
+        map.add(100, 4, 1);
+
+        assertThat(map.get(100, 3)).isEqualTo(2);
+        assertThat(map.get(100, 4)).isEqualTo(1);
+        assertThat(map.get(100, 5)).isZero();
+        assertThat(map.get(101, 3)).isZero(); // 없는 날짜
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void countNeverGoesBelowZero() {
+        SlotCounterMap map = new SlotCounterMap();
+        map.add(7, 0, 1);
+        map.add(7, 0, -1);
+        map.add(7, 0, -1);
+
+        assertThat(map.get(7, 0)).isZero();
+    }
+
+    @Test
+    void fullMaskMarksSlotsAtCapacity() {
+        SlotCounterMap map = new SlotCounterMap();
+        map.put(1, 0, 2);
+        map.put(1, 5, 1);
+        map.put(1, 15, 3);
+
+        assertThat(map.fullMask(1, 2)).isEqualTo((short) (1 | 1 << 15));
+        assertThat(map.fullMask(1, 1)).isEqualTo((short) (1 | 1 << 5 | 1 << 15));
+        assertThat(map.fullMask(2, 1)).isZero();
+    }
+
+    @Test
+    void growKeepsAllCounts() {
+        SlotCounterMap map = new SlotCounterMap(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int day = -500; day < 5000; day += 3) {
+            int slot = Math.floorMod(day, SlotCounterMap.SLOTS);
+            int count = Math.floorMod(day, 7) + 1;
+            map.put(day, slot, count);
+            expected.put(day, count);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((day, count) ->
+                assertThat(map.get(day, Math.floorMod(day, SlotCounterMap.SLOTS))).isEqualTo(count));
+    }
+
+    @Test
+    void forEachVisitsOnlyNonZeroSlots() {
+        SlotCounterMap map = new SlotCounterMap();
+        map.put(10, 1, 2);
+        map.put(10, 2, 0);
+        map.put(20, 3, 1);
+
+        Map<String, Integer> visited = new HashMap<>();
+        map.forEach((key, slot, count) -> visited.put(key + ":" + slot, count));
+
+        assertThat(visited).containsOnly(Map.entry("10:1", 2), Map.entry("20:3", 1));
+    }
+}
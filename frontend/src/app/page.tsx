@@ -14,6 +14,7 @@ import RecentReservations from "@/components/RecentReservations";
 import RecentNotices from "@/components/RecentNotices";
 import { useState, useEffect } from "react";
 
+// 시간 초과/실패로 채우지 못한 카드 값은 null 로 오므로 "-" 로 표시
 interface UserStatsType {
   todayReservations: number;
   upcomingReservations: number;
@@ -34,11 +35,20 @@ interface StaffStatsType {
 interface AdminStatsType {
   todayTotalReservations: number;
   totalPets: number;
+  treatedPets?: number | null; // 소속 병원에서 진료한 고유 반려동물 수 (추정치)
   pendingReservations: number;
   weeklyCompletedTreatments: number;
   recentVaccinations?: number;
 }
 
+// 관리자 대시보드 실시간 카운터 (/admin/dashboard/live, SSE "dashboard" 이벤트)
+interface LiveDashboardType {
+  todayTotalReservations: number;
+  pendingReservations: number;
+  weeklyCompletedTreatments: number;
+  recentVaccinations: number;
+}
+
 export default function Home() {
   const { user } = useUser();
   const [userStats, setUserStats] = useState<UserStatsType>({
@@ -125,23 +135,36 @@ export default function Home() {
     }
   };
 
-  // 관리자 통계 데이터 가져오기
+  // 실시간 카운터 반영 (나머지 통계는 그대로)
+  const applyLiveStats = (live: LiveDashboardType) => {
+    setAdminStats((prev) => ({
+      ...prev,
+      todayTotalReservations: live.todayTotalReservations,
+      pendingReservations: live.pendingReservations,
+      weeklyCompletedTreatments: live.weeklyCompletedTreatments,
+      recentVaccinations: live.recentVaccinations,
+    }));
+  };
+
+  // 관리자 통계 데이터 가져오기 - 화면 진입 시 한 번, 이후 카운터는 SSE "dashboard" 이벤트로 갱신
   const fetchAdminStats = async () => {
     if (!user || user.userRole !== "ROLE_ADMIN") {
       return;
     }
 
+    const options: RequestInit = {
+      method: "GET",
+      headers: {
+        "Content-Type": "application/json",
+        Accept: "application/json",
+      },
+      credentials: "include",
+    };
+
     try {
       const response = await fetch(
         `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/statistics/admin/dashboard`,
-        {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-            Accept: "application/json",
-          },
-          credentials: "include",
-        }
+        options
       );
 
       if (response.ok) {
@@ -150,6 +173,17 @@ export default function Home() {
       } else {
         handleApiError(response);
       }
+
+      const liveResponse = await fetch(
+        `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/statistics/admin/dashboard/live`,
+        options
+      );
+
+      if (liveResponse.ok) {
+        applyLiveStats(await liveResponse.json());
+      } else {
+        handleApiError(liveResponse);
+      }
     } catch (error) {
       // 에러 처리는 유지
     }
@@ -205,19 +239,18 @@ export default function Home() {
     fetchStats();
   }, [user?.id, user?.userRole]);
 
-  // 예약 상태 변경 이벤트 리스너 (관리자용 실시간 업데이트)
+  // 관리자용 실시간 업데이트 - 서버가 보내는 "dashboard" 이벤트 반영 (주기적으로 다시 조회하지 않음)
   useEffect(() => {
     if (!user || user.userRole !== "ROLE_ADMIN") return;
 
-    window.addEventListener("reservationStatusChanged", refreshStats);
+    const handleDashboardUpdate = (event: Event) => {
+      applyLiveStats((event as CustomEvent<LiveDashboardType>).detail);
+    };
 
-    const interval = setInterval(() => {
-      fetchAdminStats();
-    }, 30000);
+    window.addEventListener("dashboard-update", handleDashboardUpdate);
 
     return () => {
-      window.removeEventListener("reservationStatusChanged", refreshStats);
-      clearInterval(interval);
+      window.removeEventListener("dashboard-update", handleDashboardUpdate);
     };
   }, [user]);
 
@@ -231,13 +264,13 @@ export default function Home() {
           title: "예정된 예약",
           value: isLoading
             ? "..."
-            : (userStats.upcomingReservations ?? 0).toString(),
+            : (userStats.upcomingReservations ?? "-").toString(),
           icon: <Calendar size={20} className="text-teal-500" />,
           bgColor: "bg-teal-50",
         },
         {
           title: "반려동물",
-          value: isLoading ? "..." : (userStats.totalPets ?? 0).toString(),
+          value: isLoading ? "..." : (userStats.totalPets ?? "-").toString(),
           icon: <Dog size={20} className="text-blue-500" />,
           bgColor: "bg-blue-50",
         },
@@ -245,7 +278,7 @@ export default function Home() {
           title: "진료내역",
           value: isLoading
             ? "..."
-            : (userStats.totalTreatments ?? 0).toString(),
+            : (userStats.totalTreatments ?? "-").toString(),
           icon: <Stethoscope size={20} className="text-purple-500" />,
           bgColor: "bg-purple-50",
         },
@@ -273,13 +306,13 @@ export default function Home() {
           title: "나의 오늘 예약",
           value: isLoading
             ? "..."
-            : (staffStats.todayMyReservations ?? 0).toString(),
+            : (staffStats.todayMyReservations ?? "-").toString(),
           icon: <CalendarCheck size={20} className="text-teal-500" />,
           bgColor: "bg-teal-50",
         },
         {
           title: "진료한 반려동물",
-          value: isLoading ? "..." : (staffStats.myTreatedPets ?? 0).toString(),
+          value: isLoading ? "..." : (staffStats.myTreatedPets ?? "-").toString(),
           icon: <Dog size={20} className="text-blue-500" />,
           bgColor: "bg-blue-50",
         },
@@ -287,7 +320,7 @@ export default function Home() {
           title: "승인 대기예약",
           value: isLoading
             ? "..."
-            : (staffStats.pendingReservations ?? 0).toString(),
+            : (staffStats.pendingReservations ?? "-").toString(),
           icon: <Clock size={20} className="text-orange-500" />,
           bgColor: "bg-orange-50",
         },
@@ -295,10 +328,10 @@ export default function Home() {
           title: "주간진료 / 주간예방접종",
           value: isLoading
             ? "..."
-            : (staffStats.weeklyMyTreatments ?? 0).toString(),
+            : (staffStats.weeklyMyTreatments ?? "-").toString(),
           secondValue: isLoading
             ? "..."
-            : (staffStats.weeklyVaccinations ?? 0).toString(),
+            : (staffStats.weeklyVaccinations ?? "-").toString(),
           icon: <Stethoscope size={20} className="text-purple-500" />,
           bgColor: "bg-purple-50",
         },
@@ -309,13 +342,18 @@ export default function Home() {
           title: "오늘의 예약",
           value: isLoading
             ? "..."
-            : (adminStats.todayTotalReservations ?? 0).toString(),
+            : (adminStats.todayTotalReservations ?? "-").toString(),
           icon: <CalendarCheck size={20} className="text-teal-500" />,
           bgColor: "bg-teal-50",
         },
         {
-          title: "반려동물",
-          value: isLoading ? "..." : (adminStats.totalPets ?? 0).toString(),
+          // 소속 병원이 있으면 진료한 반려동물(추정치), 없으면 등록된 전체 반려동물
+          title: adminStats.treatedPets != null ? "진료한 반려동물" : "반려동물",
+          value: isLoading
+            ? "..."
+            : adminStats.treatedPets != null
+            ? `약 ${adminStats.treatedPets}`
+            : (adminStats.totalPets ?? "-").toString(),
           icon: <Dog size={20} className="text-blue-500" />,
           bgColor: "bg-blue-50",
         },
@@ -323,7 +361,7 @@ export default function Home() {
           title: "승인 대기예약",
           value: isLoading
             ? "..."
-            : (adminStats.pendingReservations ?? 0).toString(),
+            : (adminStats.pendingReservations ?? "-").toString(),
           icon: <Clock size={20} className="text-orange-500" />,
           bgColor: "bg-orange-50",
         },
@@ -331,10 +369,10 @@ export default function Home() {
           title: "최근진료 / 최근예방접종",
           value: isLoading
             ? "..."
-            : (adminStats.weeklyCompletedTreatments ?? 0).toString(),
+            : (adminStats.weeklyCompletedTreatments ?? "-").toString(),
           secondValue: isLoading
             ? "..."
-            : (adminStats.recentVaccinations ?? 0).toString(),
+            : (adminStats.recentVaccinations ?? "-").toString(),
           icon: <Stethoscope size={20} className="text-purple-500" />,
           bgColor: "bg-purple-50",
         },
@@ -4,9 +4,10 @@ import { useState, useEffect } from "react";
 import { useRouter } from "next/navigation";
 import { useUser } from "@/contexts/UserContext";
 import { formatDate } from "@/utils/formatDate";
-import { Calendar as CalendarIcon, Clock, Dog, FileText } from "lucide-react";
+import { Calendar as CalendarIcon, Clock, Dog, FileText, Hospital } from "lucide-react";
 import Link from "next/link";
 import { toast } from "react-hot-toast";
+import HospitalCombobox from "@/components/HospitalCombobox";
 
 // 반려동물 타입
 interface Pet {
@@ -27,6 +28,8 @@ export default function CreateReservation() {
   const { user } = useUser();
   const [pets, setPets] = useState<Pet[]>([]);
   const [selectedPet, setSelectedPet] = useState<number | null>(null);
+  // 예약할 병원 (선택하지 않으면 기본 병원) - 예약 가능 시간은 병원마다 다름
+  const [selectedVet, setSelectedVet] = useState<number | null>(null);
   const [selectedDate, setSelectedDate] = useState<string>("");
   const [selectedTime, setSelectedTime] = useState<string>("");
   const [symptom, setSymptom] = useState<string>("");
@@ -35,6 +38,12 @@ export default function CreateReservation() {
   const [loading, setLoading] = useState(false);
   const [isSubmitting, setIsSubmitting] = useState(false);
 
+  // 예약 가능 시간 조회 URL
+  const availableSlotsUrl = (date: string) =>
+    `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/reservations/available-slots/${date}${
+      selectedVet ? `?vetId=${selectedVet}` : ""
+    }`;
+
   // 오늘 날짜 기본값
   useEffect(() => {
     const today = formatDate(new Date());
@@ -89,7 +98,7 @@ export default function CreateReservation() {
         console.log("예약 가능 시간 조회 시작, date:", selectedDate);
 
         const response = await fetch(
-          `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/reservations/available-slots/${selectedDate}`,
+          availableSlotsUrl(selectedDate),
           {
             credentials: "include",
           }
@@ -120,7 +129,7 @@ export default function CreateReservation() {
     };
 
     fetchTimeSlots();
-  }, [selectedDate]);
+  }, [selectedDate, selectedVet]);
 
   // 예약 등록 (API 연동) - 에러 처리 개선
   const handleSubmit = async (e: React.FormEvent) => {
@@ -147,6 +156,7 @@ export default function CreateReservation() {
     try {
       const requestData = {
         petId: selectedPet,
+        vetId: selectedVet,
         reservationDate: selectedDate,
         reservationTime: selectedTime,
         symptom,
@@ -211,7 +221,7 @@ export default function CreateReservation() {
           try {
             setLoading(true);
             const response = await fetch(
-              `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/reservations/available-slots/${selectedDate}`,
+              availableSlotsUrl(selectedDate),
               {
                 credentials: "include",
               }
@@ -245,7 +255,7 @@ export default function CreateReservation() {
       );
       console.log("[Reservation] 이벤트 리스너 제거됨");
     };
-  }, [selectedDate]);
+  }, [selectedDate, selectedVet]);
 
   if (!user) {
     return (
@@ -324,6 +334,20 @@ export default function CreateReservation() {
             )}
           </div>
 
+          {/* 병원 선택 */}
+          <div>
+            <label className="block text-sm font-medium text-gray-700 mb-2 flex items-center">
+              <Hospital className="mr-2 text-teal-500" size={18} />
+              병원 선택
+            </label>
+            <HospitalCombobox
+              name="vetId"
+              value={selectedVet ?? undefined}
+              onChange={(hospitalId) => setSelectedVet(hospitalId)}
+              placeholder="병원 선택 (선택하지 않으면 기본 병원)"
+            />
+          </div>
+
           {/* 예약 유형 선택 */}
           <div>
             <label className="block text-sm font-medium text-gray-700 mb-2 flex items-center">
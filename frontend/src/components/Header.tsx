@@ -15,9 +15,15 @@ import NotificationsModal from "./NotificationsModal";
 import NotificationsList from "@/components/NotificationsList";
 import { formatTimeForNotification } from "@/utils/formatTimeForNotification";
 import useSSE from "@/hooks/useSSE";
+import {
+  isReadTogether,
+  markNotificationAsRead,
+  notificationKey,
+} from "@/utils/notificationRead";
 
 interface NotificationDto {
   id: number;
+  broadcast?: boolean; // 전체 알림(공지 등) 여부 - id 는 개인 알림과 별도
   content: string;
   createdAt: string;
   isRead: boolean;
@@ -146,12 +152,14 @@ export default function Header() {
 
       // 서버 알림 목록에 새 알림 추가 (중복 방지)
       setServerNotifications((prev) => {
-        const exists = prev.some((n) => n.id === latestNotification.id);
+        const exists = prev.some(
+          (n) => notificationKey(n) === notificationKey(latestNotification)
+        );
         if (exists) return prev;
 
         const updatedNotifications = [latestNotification, ...prev];
         return Array.from(
-          new Map(updatedNotifications.map((item) => [item.id, item])).values()
+          new Map(updatedNotifications.map((item) => [notificationKey(item), item])).values()
         ).sort(
           (a, b) =>
             new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime()
@@ -160,7 +168,9 @@ export default function Header() {
 
       // 전체 알림 모달에도 새 알림 추가
       setAllNotifications((prev) => {
-        const exists = prev.some((n) => n.id === latestNotification.id);
+        const exists = prev.some(
+          (n) => notificationKey(n) === notificationKey(latestNotification)
+        );
         if (exists) return prev;
 
         return [latestNotification, ...prev];
@@ -193,13 +203,7 @@ export default function Header() {
   const handleNotificationClick = async (notification: NotificationDto) => {
     try {
       if (!notification.isRead) {
-        const response = await fetch(
-          `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/notifications/${notification.id}/read`,
-          {
-            method: "PATCH",
-            credentials: "include",
-          }
-        );
+        const response = await markNotificationAsRead(notification);
 
         if (!response.ok) {
           throw new Error("알림 상태 업데이트에 실패했습니다.");
@@ -211,14 +215,14 @@ export default function Header() {
         // 서버 알림 상태 업데이트
         setServerNotifications((prev) =>
           prev.map((n) =>
-            n.id === notification.id ? { ...n, isRead: true } : n
+            isReadTogether(n, notification) ? { ...n, isRead: true } : n
           )
         );
 
         // 전체 알림 모달의 상태도 업데이트
         setAllNotifications((prev) =>
           prev.map((n) =>
-            n.id === notification.id ? { ...n, isRead: true } : n
+            isReadTogether(n, notification) ? { ...n, isRead: true } : n
           )
         );
       }
@@ -612,7 +616,7 @@ export default function Header() {
                           .filter((n) => !n.isRead)
                           .map((notification) => (
                             <div
-                              key={notification.id}
+                              key={notificationKey(notification)}
                               className={getNotificationStyle(notification)}
                               onClick={() =>
                                 handleNotificationClick(notification)
@@ -648,7 +652,7 @@ export default function Header() {
                           .filter((n) => n.isRead)
                           .map((notification) => (
                             <div
-                              key={notification.id}
+                              key={notificationKey(notification)}
                               className="p-3 border-b border-gray-100 hover:bg-gray-50 cursor-pointer"
                               onClick={() =>
                                 handleNotificationClick(notification)
@@ -13,9 +13,15 @@ import {
 import { useUser } from "@/contexts/UserContext";
 import { formatTimeForNotification } from "@/utils/formatTimeForNotification";
 import NotificationsModal from "./NotificationsModal";
+import {
+  isReadTogether,
+  markNotificationAsRead,
+  notificationKey,
+} from "@/utils/notificationRead";
 
 interface NotificationDto {
   id: number;
+  broadcast?: boolean; // 전체 알림(공지 등) 여부 - id 는 개인 알림과 별도
   content: string;
   createdAt: string;
   isRead: boolean;
@@ -217,13 +223,7 @@ export default function NotificationsList() {
   const handleNotificationClick = async (notification: NotificationDto) => {
     try {
       if (!notification.isRead) {
-        const response = await fetch(
-          `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/notifications/${notification.id}/read`,
-          {
-            method: "PATCH",
-            credentials: "include",
-          }
-        );
+        const response = await markNotificationAsRead(notification);
 
         if (!response.ok) {
           throw new Error("알림 상태 업데이트에 실패했습니다.");
@@ -232,7 +232,7 @@ export default function NotificationsList() {
         // UI 업데이트
         setNotifications((prev) =>
           prev.map((n) =>
-            n.id === notification.id ? { ...n, isRead: true } : n
+            isReadTogether(n, notification) ? { ...n, isRead: true } : n
           )
         );
       }
@@ -428,7 +428,7 @@ export default function NotificationsList() {
           ) : (
             notifications.map((notification) => (
               <div
-                key={notification.id}
+                key={notificationKey(notification)}
                 className="border-b border-gray-100 pb-2 last:border-0"
                 onClick={() => handleNotificationClick(notification)}
               >
@@ -8,9 +8,11 @@ import {
   ChevronRight,
 } from "lucide-react";
 import { formatTimeForNotification } from "@/utils/formatTimeForNotification";
+import { notificationKey } from "@/utils/notificationRead";
 
 interface NotificationDto {
   id: number;
+  broadcast?: boolean; // 전체 알림(공지 등) 여부 - id 는 개인 알림과 별도
   content: string;
   createdAt: string;
   isRead: boolean;
@@ -78,7 +80,7 @@ export default function NotificationsModal({
           <div className="space-y-4">
             {notifications.map((notification) => (
               <div
-                key={notification.id}
+                key={notificationKey(notification)}
                 className="border-b border-gray-100 pb-2 last:border-0"
                 onClick={() => onNotificationClick(notification)}
               >
@@ -11,9 +11,15 @@ import {
   Clock,
 } from "lucide-react";
 import { formatTimeForNotification } from "@/utils/formatTimeForNotification";
+import {
+  isReadTogether,
+  markNotificationAsRead,
+  notificationKey,
+} from "@/utils/notificationRead";
 
 interface ReservationNotification {
   id: number;
+  broadcast?: boolean; // 전체 알림(공지 등) 여부 - id 는 개인 알림과 별도
   content: string;
   createdAt: string;
   type: "RESERVATION"; // RESERVATION 타입으로 고정
@@ -80,19 +86,13 @@ export default function RecentReservations() {
       // 읽음 처리 API 호출
       if (!notification.isRead) {
         try {
-          const response = await fetch(
-            `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/notifications/${notification.id}/read`,
-            {
-              method: "PATCH",
-              credentials: "include",
-            }
-          );
+          const response = await markNotificationAsRead(notification);
 
           if (response.ok) {
             // 로컬 상태 업데이트
             setNotifications((prev) =>
               prev.map((n) =>
-                n.id === notification.id ? { ...n, isRead: true } : n
+                isReadTogether(n, notification) ? { ...n, isRead: true } : n
               )
             );
           }
@@ -163,7 +163,7 @@ export default function RecentReservations() {
           ) : (
             notifications.map((notification) => (
               <div
-                key={notification.id}
+                key={notificationKey(notification)}
                 className="border-b border-gray-100 pb-2 last:border-0"
                 onClick={() => handleNotificationClick(notification)}
               >
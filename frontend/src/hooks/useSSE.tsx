@@ -1,8 +1,10 @@
 import { useEffect, useState } from "react";
 import { useUser } from "@/contexts/UserContext";
+import { notificationKey } from "@/utils/notificationRead";
 
 interface Notification {
   id: number;
+  broadcast?: boolean; // 전체 알림(공지 등) 여부 - id 는 개인 알림과 별도
   type: "NOTICE" | "RESERVATION" | "VACCINATION";
   content: string;
   data: any;
@@ -145,6 +147,14 @@ export default function useSSE(): UseSSEReturn {
     let eventSource: EventSource | null = null;
     let reconnectAttempts = 0;
     const maxReconnectAttempts = 5;
+    // 마지막으로 받은 이벤트 ID - 직접 다시 연결할 때 넘겨서 놓친 이벤트만 받음
+    let lastEventId = "";
+
+    const rememberEventId = (event: MessageEvent) => {
+      if (event.lastEventId) {
+        lastEventId = event.lastEventId;
+      }
+    };
 
     const connect = () => {
       if (!user?.id) {
@@ -153,7 +163,8 @@ export default function useSSE(): UseSSEReturn {
 
       try {
         eventSource = new EventSource(
-          `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/notifications/connect?userId=${user.id}`,
+          `${process.env.NEXT_PUBLIC_API_BASE_URL}/api/notifications/connect?userId=${user.id}` +
+            (lastEventId ? `&lastEventId=${encodeURIComponent(lastEventId)}` : ""),
           { withCredentials: true }
         );
 
@@ -162,27 +173,67 @@ export default function useSSE(): UseSSEReturn {
           reconnectAttempts = 0;
         };
 
+        // 연결 이벤트 - 놓친 이벤트를 서버가 다시 보내지 못하면(resumed=false) 목록을 다시 조회
+        eventSource.addEventListener("connect", (event) => {
+          try {
+            const connectData = JSON.parse(event.data);
+            if (connectData.unreadCount !== undefined) {
+              setUnreadCount(connectData.unreadCount);
+            }
+            if (lastEventId && !connectData.resumed) {
+              refreshNotifications();
+            }
+          } catch (parseError) {
+            // 배포환경에서는 조용히 처리
+          }
+        });
+
         // 개별 이벤트 리스너 추가
         eventSource.addEventListener("notice", (event) => {
+          rememberEventId(event);
           handleSSEEvent(event, "NOTICE");
         });
 
         eventSource.addEventListener("notice-refresh", (event) => {
+          rememberEventId(event);
           refreshNotifications();
           window.dispatchEvent(
             new CustomEvent("notice-refresh", { detail: event.data })
           );
         });
 
+        // 관리자 대시보드 실시간 카운터 - 대시보드 화면에서 받아서 반영
+        eventSource.addEventListener("dashboard", (event) => {
+          rememberEventId(event);
+          try {
+            window.dispatchEvent(
+              new CustomEvent("dashboard-update", {
+                detail: JSON.parse(event.data),
+              })
+            );
+          } catch (parseError) {
+            // 배포환경에서는 조용히 처리
+          }
+        });
+
         eventSource.addEventListener("reservation", (event) => {
+          rememberEventId(event);
           handleSSEEvent(event, "RESERVATION");
         });
 
+        // 여러 예약을 묶은 알림 (예약 일괄 처리) - data 는 항상 예약 목록
+        eventSource.addEventListener("reservation-batch", (event) => {
+          rememberEventId(event);
+          handleSSEEvent(event, "RESERVATION_BATCH");
+        });
+
         eventSource.addEventListener("vaccination", (event) => {
+          rememberEventId(event);
           handleSSEEvent(event, "VACCINATION");
         });
 
         eventSource.onmessage = (event) => {
+          rememberEventId(event);
           try {
             if (!event.data) {
               return;
@@ -280,6 +331,14 @@ export default function useSSE(): UseSSEReturn {
               })
             );
             break;
+          case "RESERVATION_BATCH":
+            window.dispatchEvent(
+              new CustomEvent("reservation-batch-notification", {
+                detail: eventData,
+                bubbles: true,
+              })
+            );
+            break;
           case "VACCINATION":
             window.dispatchEvent(
               new CustomEvent("vaccination-notification", {
@@ -306,7 +365,9 @@ export default function useSSE(): UseSSEReturn {
       }
 
       setNotifications((prev) => {
-        const exists = prev.some((n) => n.id === newNotification.id);
+        const exists = prev.some(
+          (n) => notificationKey(n) === notificationKey(newNotification)
+        );
         if (exists) {
           return prev;
         }
@@ -0,0 +1,36 @@
+/**
+ * 알림 읽음 처리 관련 유틸
+ * - 알림 목록에는 개인 알림과 전체 알림(공지 등)이 섞여 있고 두 ID 는 서로 다른 테이블의 값
+ * - 전체 알림은 /broadcasts/{id}/read 로 읽음 처리 (해당 알림과 그 이전 전체 알림이 함께 읽음 처리됨)
+ */
+interface NotificationRef {
+  id: number;
+  broadcast?: boolean;
+}
+
+// 목록 key - 개인 알림과 전체 알림의 ID 가 겹칠 수 있어 종류를 함께 사용
+export const notificationKey = (notification: NotificationRef): string =>
+  `${notification.broadcast ? "broadcast" : "personal"}-${notification.id}`;
+
+// clicked 를 읽음 처리했을 때 함께 읽음 처리되는 알림인지
+export const isReadTogether = (
+  notification: NotificationRef,
+  clicked: NotificationRef
+): boolean => {
+  if (!!notification.broadcast !== !!clicked.broadcast) return false;
+  return notification.broadcast
+    ? notification.id <= clicked.id
+    : notification.id === clicked.id;
+};
+
+export const markNotificationAsRead = (
+  notification: NotificationRef
+): Promise<Response> => {
+  const path = notification.broadcast
+    ? `/api/notifications/broadcasts/${notification.id}/read`
+    : `/api/notifications/${notification.id}/read`;
+  return fetch(`${process.env.NEXT_PUBLIC_API_BASE_URL}${path}`, {
+    method: "PATCH",
+    credentials: "include",
+  });
+};